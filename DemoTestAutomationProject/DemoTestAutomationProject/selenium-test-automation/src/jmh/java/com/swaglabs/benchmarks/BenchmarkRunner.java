@@ -0,0 +1,171 @@
+package com.swaglabs.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.TypeToken;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Runs the framework benchmarks and compares them with the stored baseline.
+ * Started by the benchmarks Maven profile (mvn test -Pbenchmarks).
+ *
+ * System properties:
+ *  - benchmark.include        regex of the benchmarks to run (default: all)
+ *  - benchmark.tolerance      allowed slowdown in percent before failing (default: 25)
+ *  - benchmark.updateBaseline true to store the results as the new baseline
+ *
+ * Results are written to test-outputs/metrics/jmh-results.json. Scores
+ * depend on the machine, so the baseline should be refreshed whenever
+ * the machine running the benchmarks changes.
+ */
+public class BenchmarkRunner {
+
+    private static final Path RESULTS = Path.of("test-outputs/metrics/jmh-results.json");
+    private static final Path BASELINE = Path.of("src/jmh/jmh-baseline.json");
+
+    private static final Type RESULT_LIST = new TypeToken<List<Map<String, Object>>>() {
+    }.getType();
+    private static final Type BASELINE_MAP = new TypeToken<Map<String, Map<String, Object>>>() {
+    }.getType();
+
+    private BenchmarkRunner() {
+        super();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Files.createDirectories(RESULTS.getParent());
+        Options options = new OptionsBuilder()
+                .include(System.getProperty("benchmark.include", ".*"))
+                .jvmArgsAppend("-Dlog4j2.configurationFile=log4j2-benchmark.properties")
+                .resultFormat(ResultFormatType.JSON)
+                .result(RESULTS.toString())
+                .build();
+        new Runner(options).run();
+
+        Map<String, Score> results = readResults(RESULTS);
+        if (Boolean.getBoolean("benchmark.updateBaseline")) {
+            updateBaseline(results);
+            return;
+        }
+        if (!Files.exists(BASELINE)) {
+            System.out.println("No baseline at " + BASELINE + ", run with -Dbenchmark.updateBaseline=true to store one");
+            return;
+        }
+
+        double tolerance = Double.parseDouble(System.getProperty("benchmark.tolerance", "25"));
+        int regressions = compare(readBaseline(), results, tolerance);
+        if (regressions > 0) {
+            System.out.println(regressions + " benchmark(s) are more than " + tolerance + "% slower than the baseline");
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Prints current scores next to the baseline. A benchmark regressed when it
+     * is slower by more than the tolerance and by more than the error margins
+     * of both measurements, so noisy benchmarks do not fail on noise alone.
+     *
+     * @return number of regressed benchmarks
+     */
+    private static int compare(Map<String, Score> baseline, Map<String, Score> results, double tolerance) {
+        int regressions = 0;
+        System.out.printf(Locale.ROOT, "%n%-55s %14s %14s %9s  %s%n", "benchmark", "baseline", "current", "change", "unit");
+        for (Map.Entry<String, Score> result : results.entrySet()) {
+            Score current = result.getValue();
+            Score before = baseline.get(result.getKey());
+            if (before == null || !before.unit().equals(current.unit())) {
+                System.out.printf(Locale.ROOT, "%-55s %14s %14.3f %9s  %s%n",
+                        result.getKey(), "-", current.score(), "new", current.unit());
+                continue;
+            }
+            double change = (current.score() - before.score()) / before.score() * 100;
+            boolean regressed = change > tolerance
+                    && current.score() - current.error() > before.score() + before.error();
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf(Locale.ROOT, "%-55s %14.3f %14.3f %+8.1f%%  %s%s%n", result.getKey(),
+                    before.score(), current.score(), change, current.unit(), regressed ? "  REGRESSION" : "");
+        }
+        return regressions;
+    }
+
+    /**
+     * Replaces the baseline entries of the benchmarks that were run,
+     * keeping the others, so a filtered run only updates its own entries.
+     */
+    private static void updateBaseline(Map<String, Score> results) throws IOException {
+        Map<String, Score> baseline = Files.exists(BASELINE) ? readBaseline() : new TreeMap<>();
+        baseline.putAll(results);
+
+        StringBuilder json = new StringBuilder("{\n");
+        for (Map.Entry<String, Score> entry : baseline.entrySet()) {
+            Score score = entry.getValue();
+            json.append(String.format(Locale.ROOT, "  \"%s\": {\"score\": %.3f, \"error\": %.3f, \"unit\": \"%s\"},%n",
+                    entry.getKey(), score.score(), score.error(), score.unit()));
+        }
+        json.setLength(json.lastIndexOf(","));
+        json.append("\n}\n");
+
+        Files.writeString(BASELINE, json);
+        System.out.println("Stored " + results.size() + " result(s) in " + BASELINE);
+    }
+
+    /**
+     * Reads a JMH JSON result file, keyed by benchmark name and parameters.
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, Score> readResults(Path file) throws IOException {
+        List<Map<String, Object>> entries = new Json().toType(Files.readString(file), RESULT_LIST);
+        Map<String, Score> scores = new TreeMap<>();
+        for (Map<String, Object> entry : entries) {
+            Map<String, Object> metric = (Map<String, Object>) entry.get("primaryMetric");
+            scores.put(key(entry), new Score(number(metric.get("score")), number(metric.get("scoreError")),
+                    String.valueOf(metric.get("scoreUnit"))));
+        }
+        return scores;
+    }
+
+    private static Map<String, Score> readBaseline() throws IOException {
+        Map<String, Map<String, Object>> entries = new Json().toType(Files.readString(BASELINE), BASELINE_MAP);
+        Map<String, Score> scores = new TreeMap<>();
+        entries.forEach((name, entry) -> scores.put(name, new Score(number(entry.get("score")),
+                number(entry.get("error")), String.valueOf(entry.get("unit")))));
+        return scores;
+    }
+
+    // e.g. "LatestFileBenchmark.latestFile files=1000"
+    @SuppressWarnings("unchecked")
+    private static String key(Map<String, Object> entry) {
+        String name = String.valueOf(entry.get("benchmark")).replace(BenchmarkRunner.class.getPackageName() + ".", "");
+        Map<String, Object> params = (Map<String, Object>) entry.get("params");
+        if (params == null || params.isEmpty()) {
+            return name;
+        }
+        StringBuilder key = new StringBuilder(name);
+        new TreeMap<>(params).forEach((param, value) -> key.append(' ').append(param).append('=').append(value));
+        return key.toString();
+    }
+
+    // JMH writes NaN errors (single iteration runs) as strings
+    private static double number(Object value) {
+        return value instanceof Number number ? number.doubleValue() : 0;
+    }
+
+    /**
+     * Average time per operation, its 99.9% error margin and unit.
+     */
+    private record Score(double score, double error, String unit) {
+    }
+}
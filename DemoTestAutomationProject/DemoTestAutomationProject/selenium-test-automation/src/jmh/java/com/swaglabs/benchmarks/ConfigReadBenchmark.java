@@ -0,0 +1,43 @@
+package com.swaglabs.benchmarks;
+
+import com.swaglabs.utils.JsonUtils;
+import com.swaglabs.utils.PropertiesUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading test data and configuration values, as page objects and
+ * tests do for every step.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConfigReadBenchmark {
+
+    private JsonUtils testData;
+
+    @Setup
+    public void loadTestData() {
+        testData = new JsonUtils("test-data");
+    }
+
+    @Benchmark
+    public String jsonData() {
+        return testData.getJsonData("login-credentials.username");
+    }
+
+    // A new reader per test class, as the suites create it in @BeforeClass
+    @Benchmark
+    public String jsonDataNewReader() {
+        return new JsonUtils("test-data").getJsonData("product-names.item1.name");
+    }
+
+    @Benchmark
+    public String propertyValue() {
+        return PropertiesUtils.getPropertyValue("baseURL");
+    }
+}
@@ -0,0 +1,49 @@
+package com.swaglabs.benchmarks;
+
+import com.swaglabs.utils.FilesUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FilesUtils.getLatestFile on folders the size of a long-running
+ * screenshot or report folder.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LatestFileBenchmark {
+
+    @Param({"1000", "5000"})
+    public int files;
+
+    private Path folder;
+
+    @Setup
+    public void createFiles() throws IOException {
+        folder = Files.createTempDirectory("latest-file-benchmark");
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < files; i++) {
+            Path file = Files.createFile(folder.resolve("screenshot-" + i + ".png"));
+            Files.setLastModifiedTime(file, FileTime.fromMillis(now - (long) i * 1000));
+        }
+    }
+
+    @TearDown
+    public void deleteFiles() {
+        FilesUtils.cleanDirectory(folder.toFile());
+    }
+
+    @Benchmark
+    public File latestFile() {
+        return FilesUtils.getLatestFile(folder.toString());
+    }
+}
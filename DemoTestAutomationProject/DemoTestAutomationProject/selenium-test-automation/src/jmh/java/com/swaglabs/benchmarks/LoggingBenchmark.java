@@ -0,0 +1,40 @@
+package com.swaglabs.benchmarks;
+
+import com.swaglabs.utils.LogsUtil;
+import com.swaglabs.utils.TimestampUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LogsUtil caller resolution and message building, and TimestampUtils.
+ *
+ * Runs with log4j2-benchmark.properties (INFO level, Null appender),
+ * so only the framework side of logging is measured, not the I/O.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoggingBenchmark {
+
+    private final String locator = "By.id: login-button";
+
+    @Benchmark
+    public void infoEnabled() {
+        LogsUtil.info("Clicking on element:", locator);
+    }
+
+    // Below every configured level: rejected before the caller lookup
+    @Benchmark
+    public void debugDisabled() {
+        LogsUtil.debug("Clicking on element:", locator);
+    }
+
+    @Benchmark
+    public String timestamp() {
+        return TimestampUtils.getTimestamp();
+    }
+}
@@ -0,0 +1,60 @@
+package com.swaglabs.benchmarks;
+
+import com.swaglabs.drivers.FakeDriver;
+import com.swaglabs.drivers.FakeElement;
+import com.swaglabs.drivers.GUIDriver;
+import com.swaglabs.pages.AppState;
+import com.swaglabs.pages.InformationPage;
+import com.swaglabs.pages.LoginPage;
+import org.openqa.selenium.WrapsDriver;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Page object steps against the in-memory fake browser (browserType=Fake)
+ * with fakeCommandLatency=0, so the score is the CPU time the framework
+ * itself spends per step: element actions, waits, logging and the
+ * command listeners, without any browser round-trip.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PageObjectBenchmark {
+
+    private GUIDriver driver;
+    private InformationPage informationPage;
+    private List<FakeElement> fields;
+
+    @Setup
+    public void openCheckout() {
+        driver = new GUIDriver("fake");
+        FakeDriver fake = (FakeDriver) ((WrapsDriver) driver.get()).getWrappedDriver();
+        new LoginPage(driver).navigateToLoginPage();
+        informationPage = new AppState(driver)
+                .loggedInAs("standard_user", "secret_sauce")
+                .openCheckoutStepOne();
+        fields = fake.document().descendants(element -> element.tag().equals("input")
+                && "text".equals(element.attribute("type")));
+    }
+
+    // Typing appends, so every invocation starts from an empty form
+    @Setup(Level.Invocation)
+    public void clearForm() {
+        fields.forEach(field -> field.attr("value", null));
+    }
+
+    @TearDown
+    public void closeBrowser() {
+        driver.browser().closeBrowser();
+    }
+
+    @Benchmark
+    public InformationPage fillInformationForm() {
+        return informationPage.fillInformationForm("John", "Doe", "12345");
+    }
+}
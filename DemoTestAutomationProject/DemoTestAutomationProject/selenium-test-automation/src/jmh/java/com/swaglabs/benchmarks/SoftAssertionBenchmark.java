@@ -0,0 +1,56 @@
+package com.swaglabs.benchmarks;
+
+import com.swaglabs.utils.CustomSoftAssertion;
+import org.apache.logging.log4j.LogManager;
+import org.openjdk.jmh.annotations.*;
+import org.testng.ITestResult;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collecting soft assertions and reporting them at the end of a test,
+ * on one thread and with several test threads collecting at once.
+ * Each operation is one "test": a few passing and failing checks
+ * followed by CustomSoftAssertion.customAssertAll.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SoftAssertionBenchmark {
+
+    // Starts Log4j before the worker threads log at once; events logged
+    // while it is still starting go to its default console configuration
+    static {
+        LogManager.getContext(false);
+    }
+
+    // Result of the running test, only its status and throwable are set
+    private final ITestResult result = (ITestResult) Proxy.newProxyInstance(
+            ITestResult.class.getClassLoader(), new Class<?>[]{ITestResult.class}, (proxy, method, args) -> null);
+
+    @Benchmark
+    @Threads(1)
+    public void collectAndReport() {
+        runTest();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void collectAndReportContended() {
+        runTest();
+    }
+
+    private void runTest() {
+        CustomSoftAssertion softAssertion = CustomSoftAssertion.softAssertion();
+        for (int i = 0; i < 4; i++) {
+            softAssertion.assertEquals(i, i, "passing check");
+        }
+        softAssertion.assertEquals("Sauce Labs Backpack", "Sauce Labs Bike Light", "product name");
+        softAssertion.assertTrue(false, "cart badge");
+        CustomSoftAssertion.customAssertAll(result);
+    }
+}
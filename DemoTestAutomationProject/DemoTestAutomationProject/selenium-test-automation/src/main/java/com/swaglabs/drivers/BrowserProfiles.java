@@ -0,0 +1,107 @@
+package com.swaglabs.drivers;
+
+import com.swaglabs.utils.FrameworkConfig;
+import com.swaglabs.utils.FrameworkConfig.BrowserProfile;
+import com.swaglabs.utils.FrameworkConfig.FastProfile;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.chromium.ChromiumOptions;
+import org.openqa.selenium.firefox.FirefoxOptions;
+
+import java.util.Map;
+
+/**
+ * Applies the window, headless and page-load settings of a browser profile.
+ * Chrome and Edge share the Chromium switches; Firefox gets the
+ * equivalent Firefox arguments and preferences.
+ */
+final class BrowserProfiles {
+
+    private BrowserProfiles() {
+        super();
+    }
+
+    /**
+     * Settings of the Fast profile, or null for the Default profile.
+     */
+    static FastProfile fastSettings(BrowserProfile profile) {
+        return profile == BrowserProfile.FAST ? FrameworkConfig.get().fastProfile() : null;
+    }
+
+    /**
+     * Default profile runs headless only when not executing locally.
+     */
+    static boolean headless(FastProfile fast) {
+        return (fast != null && fast.headless())
+                || FrameworkConfig.get().executionType() != FrameworkConfig.ExecutionType.LOCAL;
+    }
+
+    /**
+     * Applies the profile to Chrome or Edge options.
+     *
+     * @param prefs mutable browser preferences, set on the options by the caller
+     */
+    static void applyChromium(ChromiumOptions<?> options, Map<String, Object> prefs, BrowserProfile profile) {
+        FastProfile fast = fastSettings(profile);
+
+        if (headless(fast)) {
+            options.addArguments("--headless=new");
+        }
+        if (fast == null) {
+            options.addArguments("--start-maximized");
+            options.setPageLoadStrategy(PageLoadStrategy.NORMAL);
+            return;
+        }
+
+        options.addArguments("--window-size=" + fast.windowWidth() + "," + fast.windowHeight());
+        if (fast.disableGpu()) {
+            options.addArguments("--disable-gpu");
+        }
+        if (fast.disableBackgroundNetworking()) {
+            options.addArguments(
+                    "--disable-background-networking",
+                    "--disable-component-update",
+                    "--disable-sync",
+                    "--disable-default-apps",
+                    "--no-first-run"
+            );
+        }
+        if (fast.blockImages()) {
+            prefs.put("profile.managed_default_content_settings.images", 2);
+        }
+        options.setPageLoadStrategy(fast.eagerPageLoad() ? PageLoadStrategy.EAGER : PageLoadStrategy.NORMAL);
+    }
+
+    /**
+     * Applies the profile to Firefox options.
+     */
+    static void applyFirefox(FirefoxOptions options, BrowserProfile profile) {
+        FastProfile fast = fastSettings(profile);
+
+        if (headless(fast)) {
+            options.addArguments("-headless");
+        }
+        if (fast == null) {
+            options.setPageLoadStrategy(PageLoadStrategy.NORMAL);
+            return;
+        }
+
+        options.addArguments("--width=" + fast.windowWidth(), "--height=" + fast.windowHeight());
+        if (fast.disableGpu()) {
+            options.addPreference("layers.acceleration.disabled", true);
+            options.addPreference("gfx.webrender.software", true);
+        }
+        if (fast.disableBackgroundNetworking()) {
+            options.addPreference("app.update.auto", false);
+            options.addPreference("app.normandy.enabled", false);
+            options.addPreference("browser.safebrowsing.malware.enabled", false);
+            options.addPreference("browser.safebrowsing.phishing.enabled", false);
+            options.addPreference("datareporting.policy.dataSubmissionEnabled", false);
+            options.addPreference("network.prefetch-next", false);
+            options.addPreference("network.dns.disablePrefetch", true);
+        }
+        if (fast.blockImages()) {
+            options.addPreference("permissions.default.image", 2);
+        }
+        options.setPageLoadStrategy(fast.eagerPageLoad() ? PageLoadStrategy.EAGER : PageLoadStrategy.NORMAL);
+    }
+}
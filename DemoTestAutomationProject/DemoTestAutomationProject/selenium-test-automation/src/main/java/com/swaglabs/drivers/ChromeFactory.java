@@ -1,11 +1,11 @@
 package com.swaglabs.drivers;
 
-import com.swaglabs.utils.PropertiesUtils;
-import org.openqa.selenium.PageLoadStrategy;
+import com.swaglabs.utils.FrameworkConfig.BrowserProfile;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
 
+import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -17,37 +17,34 @@ public class ChromeFactory extends AbstractDriver
         implements WebDriverOptionsAbstract<ChromeOptions> {
 
     @Override
-    public ChromeOptions getOptions() {
+    public ChromeOptions getOptions(BrowserProfile profile) {
         ChromeOptions options = new ChromeOptions();
 
         // Common browser configuration
-        options.addArguments("--start-maximized");
         options.addArguments("--disable-extensions");
         options.addArguments("--disable-infobars");
         options.addArguments("--disable-notifications");
         options.addArguments("--remote-allow-origins=*");
 
-        // Enable headless mode for non-local execution
-        if (!PropertiesUtils.getPropertyValue("executionType").equalsIgnoreCase("local")) {
-            options.addArguments("--headless");
-        }
-
         // Disable browser services and notifications
-        Map<String, Object> prefs = Map.of(
+        Map<String, Object> prefs = new HashMap<>(Map.of(
                 "profile.default_content_setting_values.notifications", 2,
                 "credentials_enable_service", false,
                 "profile.password_manager_enabled", false,
                 "autofill.profile_enabled", false
-        );
+        ));
+
+        // Window, headless mode and page load strategy of the profile
+        BrowserProfiles.applyChromium(options, prefs, profile);
 
         options.setExperimentalOption("prefs", prefs);
-        options.setPageLoadStrategy(PageLoadStrategy.NORMAL);
 
         return options;
     }
 
     @Override
     public WebDriver startDriver() {
-        return new ChromeDriver(getOptions());
+        // Block resources the tests do not need right after the session starts
+        return RequestBlocker.enable(new ChromeDriver(getOptions()));
     }
 }
@@ -0,0 +1,54 @@
+package com.swaglabs.drivers;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+
+/**
+ * WebDriver listener that counts the commands sent to the browser
+ * by the current thread. Used to make the number of WebDriver
+ * round-trips per element action visible in the logs.
+ */
+public class CommandCounter implements WebDriverListener {
+
+    // Calls answered locally by the client, without a round-trip to the driver
+    private static final Set<String> LOCAL_METHODS = Set.of(
+            "manage", "navigate", "switchTo", "timeouts", "window", "logs",
+            "getWrappedDriver", "getWrappedElement", "getCapabilities", "getSessionId",
+            "getId", "toString", "hashCode", "equals"
+    );
+
+    // Sessions are thread-confined, so one counter per thread is enough
+    private static final ThreadLocal<long[]> counter = ThreadLocal.withInitial(() -> new long[1]);
+
+    private static final CommandCounter INSTANCE = new CommandCounter();
+
+    private CommandCounter() {
+        super();
+    }
+
+    /**
+     * Wraps a driver so every command issued through it is counted
+     * and its navigations are tracked by {@link PageTracker}.
+     */
+    public static WebDriver decorate(WebDriver driver) {
+        return new EventFiringDecorator<>(INSTANCE, PageTracker.INSTANCE).decorate(driver);
+    }
+
+    /**
+     * Returns the number of commands issued so far by the current thread.
+     */
+    public static long count() {
+        return counter.get()[0];
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (!LOCAL_METHODS.contains(method.getName())) {
+            counter.get()[0]++;
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package com.swaglabs.drivers;
+
+import com.swaglabs.utils.FrameworkConfig;
+import com.swaglabs.utils.LogsUtil;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded pool of live WebDriver sessions, one pool per browser type.
+ * Sessions are pre-warmed at execution start, lent to {@link GUIDriver}
+ * and reset between tests instead of being quit, which removes the
+ * browser cold start from every test.
+ */
+public class DriverPool {
+
+    // One pool per browser type (chrome, edge, firefox)
+    private static final Map<String, DriverPool> pools = new ConcurrentHashMap<>();
+
+    // Interval used to re-check capacity while waiting for a free session
+    private static final long POLL_MILLIS = 500;
+
+    private final String browserName;
+    private final int maxUses;
+    private final Duration borrowTimeout;
+
+    // Sessions ready to be lent, most recently used first
+    private final BlockingDeque<PooledSession> idle = new LinkedBlockingDeque<>();
+
+    // Sessions currently lent to a test, keyed by their driver
+    private final Map<WebDriver, PooledSession> leased = new ConcurrentHashMap<>();
+
+    // One permit per session that is allowed to exist (idle, leased or starting)
+    private final Semaphore capacity;
+    private final int size;
+
+    private DriverPool(String browserName) {
+        this.browserName = browserName.toLowerCase();
+        this.size = FrameworkConfig.get().sessionPoolSize();
+        this.maxUses = FrameworkConfig.get().sessionMaxUses();
+        this.borrowTimeout = FrameworkConfig.get().sessionBorrowTimeout();
+        this.capacity = new Semaphore(size);
+    }
+
+    /**
+     * Whether session pooling is enabled in web.properties.
+     */
+    public static boolean isEnabled() {
+        return FrameworkConfig.get().sessionPoolEnabled();
+    }
+
+    /**
+     * Returns the pool for the given browser, creating it on first use.
+     */
+    public static DriverPool forBrowser(String browserName) {
+        return pools.computeIfAbsent(browserName.toLowerCase(), DriverPool::new);
+    }
+
+    /**
+     * Starts sessions in the background until the pool holds its configured size.
+     * Borrowers that arrive before a session is ready simply wait for it.
+     */
+    public static void warmUp(String browserName) {
+        if (!isEnabled()) {
+            return;
+        }
+        DriverPool pool = forBrowser(browserName);
+        for (int i = 0; i < pool.size; i++) {
+            if (!pool.capacity.tryAcquire()) {
+                return;
+            }
+            CompletableFuture.runAsync(() -> {
+                try {
+                    pool.idle.offerLast(pool.create());
+                } catch (Exception e) {
+                    // create() has already returned the permit, releasing it here would grow the pool
+                    LogsUtil.error("Failed to pre-warm", pool.browserName, "session:", e.getMessage());
+                }
+            });
+        }
+        LogsUtil.info("Pre-warming", String.valueOf(pool.size), pool.browserName, "sessions");
+    }
+
+    /**
+     * Returns a session to its pool.
+     *
+     * @param driver driver previously lent by a pool
+     * @return false if the driver does not belong to any pool and must be quit by the caller
+     */
+    public static boolean release(WebDriver driver) {
+        WebDriver raw = unwrap(driver);
+        for (DriverPool pool : pools.values()) {
+            PooledSession session = pool.leased.remove(raw);
+            if (session != null) {
+                pool.giveBack(session);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Quits every idle session of every pool.
+     * Called once after the whole execution has finished.
+     */
+    public static void shutdown() {
+        pools.values().forEach(pool -> {
+            PooledSession session;
+            while ((session = pool.idle.pollFirst()) != null) {
+                pool.discard(session);
+            }
+            pool.leased.values().forEach(pool::discard);
+            pool.leased.clear();
+        });
+        LogsUtil.info("Session pool shut down");
+    }
+
+    /**
+     * Lends a healthy session, starting a new one if the pool still has capacity
+     * or waiting for one to be released otherwise.
+     */
+    public WebDriver borrow() {
+        long deadline = System.nanoTime() + borrowTimeout.toNanos();
+        while (true) {
+            PooledSession session = idle.pollFirst();
+            if (session == null && capacity.tryAcquire()) {
+                session = create();
+            }
+            if (session == null) {
+                session = awaitIdle(deadline);
+            }
+            if (isHealthy(session)) {
+                session.uses++;
+                leased.put(session.driver, session);
+                LogsUtil.info("Borrowed", browserName, "session, use", String.valueOf(session.uses), "of", String.valueOf(maxUses));
+                return session.driver;
+            }
+            LogsUtil.warn("Discarding unhealthy", browserName, "session");
+            discard(session);
+        }
+    }
+
+    private PooledSession awaitIdle(long deadline) {
+        try {
+            while (System.nanoTime() < deadline) {
+                PooledSession session = idle.pollFirst(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (session != null) {
+                    return session;
+                }
+                if (capacity.tryAcquire()) {
+                    return create();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        throw new IllegalStateException("No " + browserName + " session available within " + borrowTimeout);
+    }
+
+    /**
+     * Starts a session for a permit the caller has already acquired.
+     * On failure the permit is released here, so callers only log the error.
+     */
+    private PooledSession create() {
+        try {
+            WebDriver driver = GUIDriver.getDriver(browserName).startDriver();
+            LogsUtil.info("Started new pooled", browserName, "session");
+            return new PooledSession(driver);
+        } catch (RuntimeException e) {
+            capacity.release();
+            throw e;
+        }
+    }
+
+    private void giveBack(PooledSession session) {
+        if (session.uses >= maxUses) {
+            LogsUtil.info("Recycling", browserName, "session after", String.valueOf(session.uses), "uses");
+            discard(session);
+            return;
+        }
+        if (reset(session.driver)) {
+            idle.offerFirst(session);
+        } else {
+            discard(session);
+        }
+    }
+
+    /**
+     * Cheap liveness probe executed before every lend.
+     */
+    private boolean isHealthy(PooledSession session) {
+        try {
+            return !session.driver.getWindowHandles().isEmpty();
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * Clears cookies and web storage of the current origin, closes extra
+     * windows and parks the session on about:blank for the next test.
+     */
+    private boolean reset(WebDriver driver) {
+        try {
+            String mainWindow = driver.getWindowHandles().iterator().next();
+            for (String handle : driver.getWindowHandles()) {
+                if (!handle.equals(mainWindow)) {
+                    driver.switchTo().window(handle).close();
+                }
+            }
+            driver.switchTo().window(mainWindow);
+            driver.manage().deleteAllCookies();
+            try {
+                ((JavascriptExecutor) driver).executeScript(
+                        "window.localStorage.clear(); window.sessionStorage.clear();"
+                );
+            } catch (Exception storageUnavailable) {
+                // Pages such as about:blank have no web storage to clear
+            }
+            driver.get("about:blank");
+            return true;
+        } catch (Exception e) {
+            LogsUtil.warn("Failed to reset", browserName, "session:", e.getMessage());
+            return false;
+        }
+    }
+
+    private void discard(PooledSession session) {
+        try {
+            session.driver.quit();
+        } catch (Exception e) {
+            LogsUtil.warn("Failed to quit", browserName, "session:", e.getMessage());
+        } finally {
+            capacity.release();
+        }
+    }
+
+    private static WebDriver unwrap(WebDriver driver) {
+        return driver instanceof WrapsDriver wrapper ? wrapper.getWrappedDriver() : driver;
+    }
+
+    /**
+     * A live session together with the number of tests it has served.
+     */
+    private static class PooledSession {
+        private final WebDriver driver;
+        private int uses;
+
+        private PooledSession(WebDriver driver) {
+            this.driver = driver;
+        }
+    }
+}
@@ -1,11 +1,11 @@
 package com.swaglabs.drivers;
 
-import com.swaglabs.utils.PropertiesUtils;
-import org.openqa.selenium.PageLoadStrategy;
+import com.swaglabs.utils.FrameworkConfig.BrowserProfile;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.edge.EdgeDriver;
 import org.openqa.selenium.edge.EdgeOptions;
 
+import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -16,31 +16,27 @@ public class EdgeFactory extends AbstractDriver
         implements WebDriverOptionsAbstract<EdgeOptions> {
 
     @Override
-    public EdgeOptions getOptions() {
+    public EdgeOptions getOptions(BrowserProfile profile) {
         EdgeOptions edgeOptions = new EdgeOptions();
 
         // Common browser configuration
-        edgeOptions.addArguments("--start-maximized");
         edgeOptions.addArguments("--disable-extensions");
         edgeOptions.addArguments("--disable-infobars");
         edgeOptions.addArguments("--disable-notifications");
         edgeOptions.addArguments("--remote-allow-origins=*");
 
-        // Enable headless mode for non-local execution
-        if (!PropertiesUtils.getPropertyValue("executionType").equalsIgnoreCase("local")) {
-            edgeOptions.addArguments("--headless=new");
-        }
-
         // Disable browser services and notifications
-        Map<String, Object> edgePrefs = Map.of(
+        Map<String, Object> edgePrefs = new HashMap<>(Map.of(
                 "profile.default_content_setting_values.notifications", 2,
                 "credentials_enable_service", false,
                 "profile.password_manager_enabled", false,
                 "autofill.profile_enabled", false
-        );
+        ));
+
+        // Window, headless mode and page load strategy of the profile
+        BrowserProfiles.applyChromium(edgeOptions, edgePrefs, profile);
 
         edgeOptions.setExperimentalOption("prefs", edgePrefs);
-        edgeOptions.setPageLoadStrategy(PageLoadStrategy.NORMAL);
 
         return edgeOptions;
     }
@@ -54,6 +50,7 @@ public class EdgeFactory extends AbstractDriver
                 "C:\\Users\\user\\Downloads\\edgedriver_win64\\msedgedriver.exe"
         );
 
-        return new EdgeDriver(getOptions());
+        // Block resources the tests do not need right after the session starts
+        return RequestBlocker.enable(new EdgeDriver(getOptions()));
     }
 }
@@ -0,0 +1,780 @@
+package com.swaglabs.drivers;
+
+import org.openqa.selenium.Alert;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoAlertPresentException;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.NoSuchFrameException;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.NoSuchWindowException;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WindowType;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.logging.Logs;
+
+import java.net.URI;
+import java.net.URL;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * In-memory WebDriver for measuring the framework without a browser.
+ *
+ * Serves pages built from {@link FakeElement}s, registered per URL path
+ * with {@link #onPage(String, Function)}; the same paths are served for any host.
+ * Every command (driver and element methods, not the local manage() / navigate() /
+ * switchTo() accessors) is counted and waits for a fixed latency,
+ * so a page object step can be measured in commands and in CPU time spent
+ * by the framework itself, with latency 0, or with a simulated round-trip.
+ *
+ * JavaScript is not interpreted: each script is answered by the handler
+ * registered for a fragment of its source ({@link #onScript(String, ScriptHandler)}).
+ * Handlers for the framework's own scripts (readiness check, batch reads,
+ * event waits, web storage) are built in; any other script fails with
+ * JavascriptException naming it, so a new framework script needs a handler here.
+ *
+ * Behaviour is deterministic: nothing changes the DOM except commands,
+ * so a wait that is not met right away runs into its timeout.
+ * One cookie jar and web storage are shared by all hosts,
+ * the fake serves a single application.
+ */
+public class FakeDriver implements WebDriver, JavascriptExecutor, TakesScreenshot {
+
+    /**
+     * Answers a script with the given arguments, as returned by the browser.
+     */
+    @FunctionalInterface
+    public interface ScriptHandler {
+        Object run(Object[] args);
+    }
+
+    // 1x1 transparent PNG returned for every screenshot
+    private static final String SCREENSHOT =
+            "iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAYAAAAfFcSJAAAADUlEQVR42mNkYPhfDwAChwGA60e6kgAAAABJRU5ErkJggg==";
+
+    private static final String WINDOW_HANDLE = "fake-window";
+
+    // Redirects followed for one navigation before giving up
+    private static final int MAX_REDIRECTS = 10;
+
+    private final Duration latency;
+    private final Map<String, LongAdder> commands = new ConcurrentHashMap<>();
+
+    // Page renderers by URL path, and script handlers by source fragment, in registration order
+    private final Map<String, Function<URI, FakeElement>> pages = new HashMap<>();
+    private final List<Map.Entry<String, ScriptHandler>> scripts = new ArrayList<>();
+
+    // Compiled locators, keyed by strategy and value
+    private final Map<String, Predicate<FakeElement>> selectors = new ConcurrentHashMap<>();
+
+    private final Map<String, Cookie> cookies = new LinkedHashMap<>();
+    private final Map<String, String> localStorage = new LinkedHashMap<>();
+    private final Map<String, String> sessionStorage = new LinkedHashMap<>();
+
+    private final List<URI> history = new ArrayList<>();
+    private int historyIndex = -1;
+    private URI currentUrl = URI.create("about:blank");
+    private FakeElement document = blankPage();
+
+    // Set by open() while a page renders, followed once rendering is done
+    private String redirect;
+    private boolean rendering;
+
+    private boolean quit;
+    private Dimension windowSize = new Dimension(1920, 1080);
+    private Point windowPosition = new Point(0, 0);
+    private Duration implicitWait = Duration.ZERO;
+    private Duration scriptTimeout = Duration.ofSeconds(30);
+    private Duration pageLoadTimeout = Duration.ofSeconds(300);
+
+    /**
+     * @param latency time every command takes, simulating the round-trip to a browser
+     */
+    public FakeDriver(Duration latency) {
+        this.latency = latency;
+        registerFrameworkScripts();
+    }
+
+    // ---------- Application side ----------
+
+    /**
+     * Serves the page built by the renderer for a URL path, e.g. "/cart.html".
+     * The renderer is called on every load, so each load gets a fresh DOM.
+     */
+    public FakeDriver onPage(String path, Function<URI, FakeElement> renderer) {
+        pages.put(path, renderer);
+        return this;
+    }
+
+    /**
+     * Answers every script whose source contains the fragment.
+     * Handlers registered later take precedence over earlier ones.
+     */
+    public FakeDriver onScript(String fragment, ScriptHandler handler) {
+        scripts.add(Map.entry(fragment, handler));
+        return this;
+    }
+
+    /**
+     * Navigates the way the page itself does, e.g. after a link click or
+     * a form submit; not a command. Called while a page renders, it
+     * redirects to the location instead of rendering that page.
+     */
+    public void open(String location) {
+        if (rendering) {
+            redirect = location;
+            return;
+        }
+        navigate(currentUrl.resolve(location), true);
+    }
+
+    /**
+     * Root element of the open page.
+     */
+    public FakeElement document() {
+        return document;
+    }
+
+    /**
+     * Cookie jar, as seen by the page.
+     */
+    public Map<String, Cookie> cookies() {
+        return cookies;
+    }
+
+    public Map<String, String> localStorage() {
+        return localStorage;
+    }
+
+    public Map<String, String> sessionStorage() {
+        return sessionStorage;
+    }
+
+    // ---------- Measurements ----------
+
+    /**
+     * Number of commands received since the driver started or was last reset.
+     */
+    public long commandCount() {
+        return commands.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    /**
+     * Commands received per command name, e.g. {findElement=3, sendKeys=3}.
+     */
+    public Map<String, Long> commands() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        commands.forEach((name, count) -> snapshot.put(name, count.sum()));
+        snapshot.values().removeIf(count -> count == 0);
+        return snapshot;
+    }
+
+    public void resetCommands() {
+        commands.values().forEach(LongAdder::reset);
+    }
+
+    public Duration latency() {
+        return latency;
+    }
+
+    // ---------- WebDriver commands ----------
+
+    @Override
+    public void get(String url) {
+        command("get");
+        navigate(URI.create(url), true);
+    }
+
+    @Override
+    public String getCurrentUrl() {
+        command("getCurrentUrl");
+        return currentUrl.toString();
+    }
+
+    @Override
+    public String getTitle() {
+        command("getTitle");
+        FakeElement title = document.first(element -> element.tag().equals("title"));
+        return title == null ? "" : title.textContent().trim();
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        if (!(by instanceof By.Remotable)) {
+            return by.findElements(this);
+        }
+        command("findElements");
+        return new ArrayList<>(find(document, by));
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        if (!(by instanceof By.Remotable)) {
+            return by.findElement(this);
+        }
+        command("findElement");
+        List<FakeElement> found = find(document, by);
+        if (found.isEmpty()) {
+            throw new NoSuchElementException("no such element: Unable to locate element: " + by);
+        }
+        return found.get(0);
+    }
+
+    @Override
+    public String getPageSource() {
+        command("getPageSource");
+        return document.outerHtml();
+    }
+
+    @Override
+    public void close() {
+        command("close");
+        quit = true;
+    }
+
+    @Override
+    public void quit() {
+        command("quit");
+        quit = true;
+    }
+
+    @Override
+    public Set<String> getWindowHandles() {
+        command("getWindowHandles");
+        return Set.of(WINDOW_HANDLE);
+    }
+
+    @Override
+    public String getWindowHandle() {
+        command("getWindowHandle");
+        return WINDOW_HANDLE;
+    }
+
+    @Override
+    public Object executeScript(String script, Object... args) {
+        command("executeScript");
+        return handlerFor(script).run(unwrap(args));
+    }
+
+    @Override
+    public Object executeAsyncScript(String script, Object... args) {
+        command("executeAsyncScript");
+        return handlerFor(script).run(unwrap(args));
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) {
+        command("getScreenshot");
+        return screenshot(target);
+    }
+
+    @Override
+    public TargetLocator switchTo() {
+        return new FakeTargetLocator();
+    }
+
+    @Override
+    public Navigation navigate() {
+        return new FakeNavigation();
+    }
+
+    @Override
+    public Options manage() {
+        return new FakeOptions();
+    }
+
+    @Override
+    public String toString() {
+        return "FakeDriver (" + latency.toMillis() + " ms per command)";
+    }
+
+    // ---------- Internals shared with FakeElement ----------
+
+    /**
+     * Counts the command and waits for the simulated round-trip.
+     */
+    void command(String name) {
+        if (quit) {
+            throw new NoSuchSessionException("Session was closed: " + name);
+        }
+        commands.computeIfAbsent(name, key -> new LongAdder()).increment();
+        if (!latency.isZero()) {
+            pause(latency);
+        }
+    }
+
+    boolean isAttached(FakeElement element) {
+        return element.root() == document;
+    }
+
+    /**
+     * Elements below the scope matched by a Remotable locator, in document order.
+     */
+    List<FakeElement> find(FakeElement scope, By by) {
+        By.Remotable.Parameters parameters = ((By.Remotable) by).getRemoteParameters();
+        return scope.descendants(selector(parameters.using(), String.valueOf(parameters.value())));
+    }
+
+    <X> X screenshot(OutputType<X> target) {
+        return target.convertFromBase64Png(SCREENSHOT);
+    }
+
+    // ---------- Helpers ----------
+
+    private Predicate<FakeElement> selector(String using, String value) {
+        return selectors.computeIfAbsent(using + ": " + value, key -> FakeSelector.compile(using, value));
+    }
+
+    /**
+     * First element of the open page matched by a script locator ({using, value}), or null.
+     */
+    private FakeElement find(Map<?, ?> locator) {
+        Predicate<FakeElement> condition = selector(String.valueOf(locator.get("using")),
+                String.valueOf(locator.get("value")));
+        return document.first(condition);
+    }
+
+    private void navigate(URI target, boolean addToHistory) {
+        URI uri = target;
+        redirect = null;
+        for (int redirects = 0; redirects <= MAX_REDIRECTS; redirects++) {
+            FakeElement page = render(uri);
+            if (redirect == null) {
+                page.attachTo(this);
+                document = page;
+                currentUrl = uri;
+                if (addToHistory) {
+                    history.subList(historyIndex + 1, history.size()).clear();
+                    history.add(uri);
+                    historyIndex = history.size() - 1;
+                } else {
+                    history.set(historyIndex, uri);
+                }
+                return;
+            }
+            uri = uri.resolve(redirect);
+            redirect = null;
+        }
+        throw new WebDriverException("Too many redirects while loading " + target);
+    }
+
+    private FakeElement render(URI uri) {
+        if (uri.toString().equals("about:blank")) {
+            return blankPage();
+        }
+        String path = uri.getPath() == null || uri.getPath().isEmpty() ? "/" : uri.getPath();
+        Function<URI, FakeElement> renderer = pages.get(path);
+        if (renderer == null) {
+            return FakeElement.of("html").append(
+                    FakeElement.of("head").hidden().append(FakeElement.of("title").text("404 Not Found")),
+                    FakeElement.of("body").append(FakeElement.of("h1").text("Not Found"))
+            );
+        }
+        rendering = true;
+        try {
+            return renderer.apply(uri);
+        } finally {
+            rendering = false;
+        }
+    }
+
+    private static FakeElement blankPage() {
+        return FakeElement.of("html").append(FakeElement.of("head").hidden(), FakeElement.of("body"));
+    }
+
+    private ScriptHandler handlerFor(String script) {
+        for (int i = scripts.size() - 1; i >= 0; i--) {
+            if (script.contains(scripts.get(i).getKey())) {
+                return scripts.get(i).getValue();
+            }
+        }
+        String firstLine = script.strip().lines().findFirst().orElse("");
+        throw new JavascriptException("javascript error: FakeDriver has no handler for script: " + firstLine);
+    }
+
+    /**
+     * Element arguments reach the handlers as FakeElements, checked for staleness like in a browser.
+     */
+    private Object[] unwrap(Object[] args) {
+        Object[] unwrapped = args == null ? new Object[0] : args.clone();
+        for (int i = 0; i < unwrapped.length; i++) {
+            Object arg = unwrapped[i];
+            while (arg instanceof WrapsElement wrapper && !(arg instanceof FakeElement)) {
+                arg = wrapper.getWrappedElement();
+            }
+            if (arg instanceof FakeElement element && !isAttached(element)) {
+                throw new StaleElementReferenceException(
+                        "stale element reference: " + element + " is not attached to the page");
+            }
+            unwrapped[i] = arg;
+        }
+        return unwrapped;
+    }
+
+    private static void pause(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException("Interrupted while waiting", e);
+        }
+    }
+
+    /**
+     * Handlers for the scripts the framework itself sends.
+     */
+    @SuppressWarnings("unchecked")
+    private void registerFrameworkScripts() {
+        // ElementActions: readiness check after scrolling, or a plain scroll
+        onScript("scrollIntoView", args -> {
+            if (args.length < 2) {
+                return null;
+            }
+            FakeElement element = (FakeElement) args[0];
+            return element.visible() && (!Boolean.TRUE.equals(args[1]) || element.enabled());
+        });
+
+        // ElementActions.readAll: values of every query, or null while one is missing or hidden
+        onScript("var queries = arguments[0]", args -> {
+            List<String> values = new ArrayList<>();
+            for (Object query : (List<Object>) args[0]) {
+                Map<String, Object> argument = (Map<String, Object>) query;
+                FakeElement element = find(argument);
+                if (element == null || !element.visible()) {
+                    return null;
+                }
+                String name = String.valueOf(argument.get("name"));
+                values.add(switch (String.valueOf(argument.get("kind"))) {
+                    case "TEXT" -> element.visibleText().trim();
+                    case "PROPERTY" -> element.property(name);
+                    default -> element.attribute(name);
+                });
+            }
+            return values;
+        });
+
+        // Waits with waitStrategy=Event: the element, or null once the timeout has passed
+        onScript("condition = arguments[1], timeout = arguments[2]", args -> {
+            FakeElement element = find((Map<?, ?>) args[0]);
+            String condition = String.valueOf(args[1]);
+            boolean met = element != null && (condition.equals("present")
+                    || element.visible() && (!condition.equals("clickable") || element.enabled()));
+            if (met) {
+                return element;
+            }
+            pause(Duration.ofMillis(((Number) args[2]).longValue()));
+            return null;
+        });
+
+        // DriverPool reset
+        onScript("window.localStorage.clear(); window.sessionStorage.clear()", args -> {
+            localStorage.clear();
+            sessionStorage.clear();
+            return null;
+        });
+
+        // AuthSessionCache capture and restore
+        onScript("dump(window.localStorage)", args ->
+                Map.of("local", new LinkedHashMap<>(localStorage), "session", new LinkedHashMap<>(sessionStorage)));
+        onScript("fill(window.localStorage, state.local)", args -> {
+            Map<String, Object> state = (Map<String, Object>) args[0];
+            fill(localStorage, (Map<String, Object>) state.get("local"));
+            fill(sessionStorage, (Map<String, Object>) state.get("session"));
+            return null;
+        });
+
+        // AppState: localStorage[arguments[1]] = JSON of arguments[0], removed when empty
+        onScript("window.localStorage.setItem(arguments[1], JSON.stringify(arguments[0]))", args -> {
+            String key = String.valueOf(args[1]);
+            if (args[0] instanceof List<?> list && list.isEmpty()) {
+                localStorage.remove(key);
+            } else {
+                localStorage.put(key, new Json().toJson(args[0]).replaceAll("\\s", ""));
+            }
+            return null;
+        });
+    }
+
+    private static void fill(Map<String, String> storage, Map<String, Object> values) {
+        storage.clear();
+        if (values != null) {
+            values.forEach((key, value) -> storage.put(key, String.valueOf(value)));
+        }
+    }
+
+    // ---------- manage(), navigate() and switchTo() ----------
+
+    private class FakeNavigation implements Navigation {
+
+        @Override
+        public void back() {
+            command("back");
+            if (historyIndex > 0) {
+                historyIndex--;
+                navigate(history.get(historyIndex), false);
+            }
+        }
+
+        @Override
+        public void forward() {
+            command("forward");
+            if (historyIndex < history.size() - 1) {
+                historyIndex++;
+                navigate(history.get(historyIndex), false);
+            }
+        }
+
+        @Override
+        public void to(String url) {
+            get(url);
+        }
+
+        @Override
+        public void to(URL url) {
+            get(url.toString());
+        }
+
+        @Override
+        public void refresh() {
+            command("refresh");
+            if (historyIndex >= 0) {
+                navigate(currentUrl, false);
+            }
+        }
+    }
+
+    private class FakeTargetLocator implements TargetLocator {
+
+        @Override
+        public WebDriver frame(int index) {
+            command("switchToFrame");
+            throw new NoSuchFrameException("FakeDriver pages have no frames");
+        }
+
+        @Override
+        public WebDriver frame(String nameOrId) {
+            return frame(0);
+        }
+
+        @Override
+        public WebDriver frame(WebElement frameElement) {
+            return frame(0);
+        }
+
+        @Override
+        public WebDriver parentFrame() {
+            command("switchToParentFrame");
+            return FakeDriver.this;
+        }
+
+        @Override
+        public WebDriver window(String nameOrHandle) {
+            command("switchToWindow");
+            if (!WINDOW_HANDLE.equals(nameOrHandle)) {
+                throw new NoSuchWindowException("no such window: " + nameOrHandle);
+            }
+            return FakeDriver.this;
+        }
+
+        @Override
+        public WebDriver newWindow(WindowType typeHint) {
+            throw new UnsupportedCommandException("FakeDriver has a single window");
+        }
+
+        @Override
+        public WebDriver defaultContent() {
+            command("switchToFrame");
+            return FakeDriver.this;
+        }
+
+        @Override
+        public WebElement activeElement() {
+            command("getActiveElement");
+            return document.first(element -> element.tag().equals("body"));
+        }
+
+        @Override
+        public Alert alert() {
+            command("getAlertText");
+            throw new NoAlertPresentException("no such alert");
+        }
+    }
+
+    private class FakeOptions implements Options {
+
+        @Override
+        public void addCookie(Cookie cookie) {
+            command("addCookie");
+            cookies.put(cookie.getName(), cookie);
+        }
+
+        @Override
+        public void deleteCookieNamed(String name) {
+            command("deleteCookie");
+            cookies.remove(name);
+        }
+
+        @Override
+        public void deleteCookie(Cookie cookie) {
+            deleteCookieNamed(cookie.getName());
+        }
+
+        @Override
+        public void deleteAllCookies() {
+            command("deleteAllCookies");
+            cookies.clear();
+        }
+
+        @Override
+        public Set<Cookie> getCookies() {
+            command("getAllCookies");
+            return Set.copyOf(cookies.values());
+        }
+
+        @Override
+        public Cookie getCookieNamed(String name) {
+            command("getCookie");
+            return cookies.get(name);
+        }
+
+        @Override
+        public Timeouts timeouts() {
+            return new FakeTimeouts();
+        }
+
+        @Override
+        public Window window() {
+            return new FakeWindow();
+        }
+
+        @Override
+        public Logs logs() {
+            throw new UnsupportedCommandException("FakeDriver keeps no logs");
+        }
+    }
+
+    private class FakeTimeouts implements Timeouts {
+
+        @Override
+        @Deprecated
+        public Timeouts implicitlyWait(long time, TimeUnit unit) {
+            return implicitlyWait(Duration.ofMillis(unit.toMillis(time)));
+        }
+
+        @Override
+        public Timeouts implicitlyWait(Duration duration) {
+            command("setTimeouts");
+            implicitWait = duration;
+            return this;
+        }
+
+        @Override
+        public Duration getImplicitWaitTimeout() {
+            command("getTimeouts");
+            return implicitWait;
+        }
+
+        @Override
+        @Deprecated
+        public Timeouts setScriptTimeout(long time, TimeUnit unit) {
+            return scriptTimeout(Duration.ofMillis(unit.toMillis(time)));
+        }
+
+        @Override
+        public Timeouts scriptTimeout(Duration duration) {
+            command("setTimeouts");
+            scriptTimeout = duration;
+            return this;
+        }
+
+        @Override
+        public Duration getScriptTimeout() {
+            command("getTimeouts");
+            return scriptTimeout;
+        }
+
+        @Override
+        @Deprecated
+        public Timeouts pageLoadTimeout(long time, TimeUnit unit) {
+            return pageLoadTimeout(Duration.ofMillis(unit.toMillis(time)));
+        }
+
+        @Override
+        public Timeouts pageLoadTimeout(Duration duration) {
+            command("setTimeouts");
+            pageLoadTimeout = duration;
+            return this;
+        }
+
+        @Override
+        public Duration getPageLoadTimeout() {
+            command("getTimeouts");
+            return pageLoadTimeout;
+        }
+    }
+
+    private class FakeWindow implements Window {
+
+        @Override
+        public Dimension getSize() {
+            command("getWindowRect");
+            return windowSize;
+        }
+
+        @Override
+        public void setSize(Dimension targetSize) {
+            command("setWindowRect");
+            windowSize = targetSize;
+        }
+
+        @Override
+        public Point getPosition() {
+            command("getWindowRect");
+            return windowPosition;
+        }
+
+        @Override
+        public void setPosition(Point targetPosition) {
+            command("setWindowRect");
+            windowPosition = targetPosition;
+        }
+
+        @Override
+        public void maximize() {
+            command("maximizeWindow");
+        }
+
+        @Override
+        public void minimize() {
+            command("minimizeWindow");
+        }
+
+        @Override
+        public void fullscreen() {
+            command("fullscreenWindow");
+        }
+    }
+}
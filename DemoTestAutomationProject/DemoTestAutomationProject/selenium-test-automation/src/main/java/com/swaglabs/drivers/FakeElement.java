@@ -0,0 +1,534 @@
+package com.swaglabs.drivers;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.InvalidElementStateException;
+import org.openqa.selenium.Keys;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Node of the in-memory DOM served by {@link FakeDriver}.
+ *
+ * WebElement methods behave like WebDriver commands: each one is counted
+ * by the driver and waits for its configured latency, and fails with
+ * StaleElementReferenceException once the page the element belongs to
+ * was replaced by a navigation.
+ *
+ * Pages are built with the fluent methods ({@link #of(String)}, {@link #id(String)},
+ * {@link #append(FakeElement...)}, ...), which are also used by page handlers
+ * to change the DOM, e.g. when a button is clicked. Those page-side methods
+ * are not commands and are neither counted nor delayed.
+ */
+public class FakeElement implements WebElement {
+
+    // Elements whose value can be typed into
+    private static final List<String> EDITABLE = List.of("input", "textarea");
+
+    private final String tag;
+    private final Map<String, String> attributes = new LinkedHashMap<>();
+    private final List<FakeElement> children = new ArrayList<>();
+    private FakeElement parent;
+    private FakeDriver driver;
+    private String text = "";
+    private String value;
+    private boolean displayed = true;
+    private Runnable onClick;
+
+    private FakeElement(String tag) {
+        this.tag = tag;
+    }
+
+    /**
+     * Creates a detached element.
+     */
+    public static FakeElement of(String tag) {
+        return new FakeElement(tag.toLowerCase());
+    }
+
+    // ---------- Page-side builders and mutators ----------
+
+    /**
+     * Sets an attribute, or removes it when the value is null.
+     * Setting "value" also resets the current value of an input.
+     */
+    public FakeElement attr(String name, String value) {
+        if (value == null) {
+            attributes.remove(name);
+        } else {
+            attributes.put(name, value);
+        }
+        if (name.equals("value")) {
+            this.value = null;
+        }
+        return this;
+    }
+
+    public FakeElement id(String id) {
+        return attr("id", id);
+    }
+
+    public FakeElement classes(String classNames) {
+        return attr("class", classNames);
+    }
+
+    public FakeElement dataTest(String dataTest) {
+        return attr("data-test", dataTest);
+    }
+
+    /**
+     * Sets the text of the element itself, children keep their own.
+     */
+    public FakeElement text(String text) {
+        this.text = text;
+        return this;
+    }
+
+    public FakeElement hidden() {
+        this.displayed = false;
+        return this;
+    }
+
+    public FakeElement disabled() {
+        return attr("disabled", "true");
+    }
+
+    /**
+     * Runs the handler when the element is clicked, or when
+     * Enter is typed into a field of its form (submit buttons).
+     */
+    public FakeElement onClick(Runnable handler) {
+        this.onClick = handler;
+        return this;
+    }
+
+    public FakeElement append(FakeElement... elements) {
+        for (FakeElement child : elements) {
+            if (child == null) {
+                continue;
+            }
+            child.remove();
+            child.parent = this;
+            child.attachTo(driver);
+            children.add(child);
+        }
+        return this;
+    }
+
+    /**
+     * Detaches the element from its parent; references to it go stale.
+     */
+    public void remove() {
+        if (parent != null) {
+            parent.children.remove(this);
+            parent = null;
+        }
+    }
+
+    /**
+     * Removes every child element.
+     */
+    public void clearChildren() {
+        new ArrayList<>(children).forEach(FakeElement::remove);
+    }
+
+    // ---------- Page-side accessors (not commands) ----------
+
+    public String tag() {
+        return tag;
+    }
+
+    public String attribute(String name) {
+        return attributes.get(name);
+    }
+
+    public boolean hasClass(String className) {
+        String classNames = attributes.get("class");
+        if (classNames == null) {
+            return false;
+        }
+        for (String candidate : classNames.trim().split("\\s+")) {
+            if (candidate.equals(className)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public FakeElement parent() {
+        return parent;
+    }
+
+    public List<FakeElement> children() {
+        return Collections.unmodifiableList(children);
+    }
+
+    /**
+     * Current value of an input, as the DOM "value" property.
+     */
+    public String value() {
+        if (value != null) {
+            return value;
+        }
+        String initial = attributes.get("value");
+        return initial == null ? "" : initial;
+    }
+
+    /**
+     * DOM property by name; "value" is the current input value,
+     * other properties fall back to the attribute of the same name.
+     */
+    public String property(String name) {
+        return name.equals("value") ? value() : attributes.get(name);
+    }
+
+    /**
+     * Whether the element and all its ancestors are displayed.
+     */
+    public boolean visible() {
+        for (FakeElement element = this; element != null; element = element.parent) {
+            if (!element.displayed) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean enabled() {
+        return !attributes.containsKey("disabled");
+    }
+
+    /**
+     * Rendered text of the element and its visible descendants,
+     * one line per element that has text, like innerText.
+     */
+    public String visibleText() {
+        if (!visible()) {
+            return "";
+        }
+        List<String> lines = new ArrayList<>();
+        collectText(lines);
+        return String.join("\n", lines);
+    }
+
+    /**
+     * Text of the element and all its descendants, displayed or not, like textContent.
+     */
+    public String textContent() {
+        StringBuilder content = new StringBuilder(text);
+        children.forEach(child -> content.append(child.textContent()));
+        return content.toString();
+    }
+
+    /**
+     * The first element at or below this one that matches.
+     */
+    public FakeElement first(Predicate<FakeElement> condition) {
+        if (condition.test(this)) {
+            return this;
+        }
+        for (FakeElement child : children) {
+            FakeElement found = child.first(condition);
+            if (found != null) {
+                return found;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Every element below this one that matches, in document order.
+     */
+    public List<FakeElement> descendants(Predicate<FakeElement> condition) {
+        List<FakeElement> found = new ArrayList<>();
+        children.forEach(child -> child.collect(condition, found));
+        return found;
+    }
+
+    /**
+     * Serializes the element and its subtree as HTML.
+     */
+    public String outerHtml() {
+        StringBuilder html = new StringBuilder("<").append(tag);
+        attributes.forEach((name, attribute) -> html.append(' ').append(name).append("=\"")
+                .append(attribute.replace("\"", "&quot;")).append('"'));
+        html.append('>').append(text);
+        children.forEach(child -> html.append(child.outerHtml()));
+        return html.append("</").append(tag).append('>').toString();
+    }
+
+    // ---------- WebElement commands ----------
+
+    @Override
+    public void click() {
+        command("click");
+        if (!visible()) {
+            throw new ElementNotInteractableException("element not interactable: " + this);
+        }
+        if (enabled() && onClick != null) {
+            onClick.run();
+        }
+    }
+
+    @Override
+    public void submit() {
+        command("submit");
+        submitForm();
+    }
+
+    @Override
+    public void sendKeys(CharSequence... keysToSend) {
+        command("sendKeys");
+        checkEditable();
+        StringBuilder typed = new StringBuilder(value());
+        boolean enter = false;
+        for (CharSequence keys : keysToSend) {
+            for (int i = 0; i < keys.length(); i++) {
+                char key = keys.charAt(i);
+                if (key == Keys.ENTER.charAt(0) || key == Keys.RETURN.charAt(0)) {
+                    enter = true;
+                } else if (key == Keys.BACK_SPACE.charAt(0)) {
+                    typed.setLength(Math.max(0, typed.length() - 1));
+                } else if (key < '\uE000' || key > '\uF8FF') {
+                    typed.append(key);
+                }
+            }
+        }
+        setValue(typed.toString());
+        if (enter) {
+            submitForm();
+        }
+    }
+
+    @Override
+    public void clear() {
+        command("clear");
+        checkEditable();
+        setValue("");
+    }
+
+    @Override
+    public String getTagName() {
+        command("getTagName");
+        return tag;
+    }
+
+    @Override
+    public String getDomProperty(String name) {
+        command("getDomProperty");
+        return property(name);
+    }
+
+    @Override
+    public String getDomAttribute(String name) {
+        command("getDomAttribute");
+        return attributes.get(name);
+    }
+
+    @Override
+    @Deprecated
+    public String getAttribute(String name) {
+        command("getAttribute");
+        if (name.equals("disabled")) {
+            return enabled() ? null : "true";
+        }
+        return name.equals("value") ? value() : attributes.get(name);
+    }
+
+    @Override
+    public String getAriaRole() {
+        command("getAriaRole");
+        String role = attributes.get("role");
+        return role == null ? tag : role;
+    }
+
+    @Override
+    public String getAccessibleName() {
+        command("getAccessibleName");
+        return visibleText();
+    }
+
+    @Override
+    public boolean isSelected() {
+        command("isSelected");
+        return attributes.containsKey("checked") || attributes.containsKey("selected");
+    }
+
+    @Override
+    public boolean isEnabled() {
+        command("isEnabled");
+        return enabled();
+    }
+
+    @Override
+    public String getText() {
+        command("getText");
+        return visibleText();
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        if (!(by instanceof By.Remotable)) {
+            return by.findElements(this);
+        }
+        command("findElements");
+        return new ArrayList<>(driver.find(this, by));
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        if (!(by instanceof By.Remotable)) {
+            return by.findElement(this);
+        }
+        command("findElement");
+        List<FakeElement> found = driver.find(this, by);
+        if (found.isEmpty()) {
+            throw new NoSuchElementException("no such element: Unable to locate element: " + by);
+        }
+        return found.get(0);
+    }
+
+    @Override
+    public boolean isDisplayed() {
+        command("isDisplayed");
+        return visible();
+    }
+
+    @Override
+    public Point getLocation() {
+        command("getLocation");
+        return new Point(0, 0);
+    }
+
+    @Override
+    public Dimension getSize() {
+        command("getSize");
+        return size();
+    }
+
+    @Override
+    public Rectangle getRect() {
+        command("getRect");
+        return new Rectangle(new Point(0, 0), size());
+    }
+
+    @Override
+    public String getCssValue(String propertyName) {
+        command("getCssValue");
+        return switch (propertyName) {
+            case "display" -> visible() ? "block" : "none";
+            case "visibility" -> visible() ? "visible" : "hidden";
+            default -> "";
+        };
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) {
+        command("getElementScreenshot");
+        return driver.screenshot(target);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder description = new StringBuilder("<").append(tag);
+        if (attributes.containsKey("id")) {
+            description.append('#').append(attributes.get("id"));
+        }
+        if (attributes.containsKey("class")) {
+            description.append('.').append(attributes.get("class").trim().replaceAll("\\s+", "."));
+        }
+        return description.append('>').toString();
+    }
+
+    // ---------- Helpers ----------
+
+    /**
+     * Counts and delays the command like a round-trip to the browser,
+     * then fails if the element is no longer part of the open page.
+     */
+    private void command(String name) {
+        driver.command(name);
+        if (!driver.isAttached(this)) {
+            throw new StaleElementReferenceException("stale element reference: " + this + " is not attached to the page");
+        }
+    }
+
+    FakeElement root() {
+        FakeElement root = this;
+        while (root.parent != null) {
+            root = root.parent;
+        }
+        return root;
+    }
+
+    void attachTo(FakeDriver owner) {
+        driver = owner;
+        children.forEach(child -> child.attachTo(owner));
+    }
+
+    private void collect(Predicate<FakeElement> condition, List<FakeElement> found) {
+        if (condition.test(this)) {
+            found.add(this);
+        }
+        children.forEach(child -> child.collect(condition, found));
+    }
+
+    private void collectText(List<String> lines) {
+        if (!displayed) {
+            return;
+        }
+        if (!text.isBlank()) {
+            lines.add(text.trim());
+        }
+        children.forEach(child -> child.collectText(lines));
+    }
+
+    private Dimension size() {
+        return visible() ? new Dimension(100, 20) : new Dimension(0, 0);
+    }
+
+    private void checkEditable() {
+        if (!EDITABLE.contains(tag) || !visible()) {
+            throw new ElementNotInteractableException("element not interactable: " + this);
+        }
+        if (!enabled() || attributes.containsKey("readonly")) {
+            throw new InvalidElementStateException("invalid element state: " + this + " is not editable");
+        }
+    }
+
+    // Inputs mirror their value into the attribute, like the application's controlled inputs
+    private void setValue(String newValue) {
+        value = newValue;
+        attributes.put("value", newValue);
+    }
+
+    /**
+     * Submits the enclosing form through its submit button, as pressing Enter does.
+     */
+    private void submitForm() {
+        FakeElement form = this;
+        while (form != null && !form.tag.equals("form")) {
+            form = form.parent;
+        }
+        if (form == null) {
+            throw new UnsupportedCommandException("submit: " + this + " is not inside a form");
+        }
+        FakeElement button = form.first(element -> "submit".equals(element.attributes.get("type")));
+        if (button != null && button.enabled() && button.onClick != null) {
+            button.onClick.run();
+        }
+    }
+}
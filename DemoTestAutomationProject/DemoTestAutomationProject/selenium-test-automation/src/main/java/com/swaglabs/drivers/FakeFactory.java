@@ -0,0 +1,18 @@
+package com.swaglabs.drivers;
+
+import com.swaglabs.utils.FrameworkConfig;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Driver factory for the in-memory fake browser (browserType=Fake).
+ * Starts a {@link FakeDriver} serving {@link FakeSwagLabs}, so page objects
+ * run without any browser binary, e.g. to measure the commands and the
+ * CPU time the framework spends per step.
+ */
+public class FakeFactory extends AbstractDriver {
+
+    @Override
+    public WebDriver startDriver() {
+        return FakeSwagLabs.install(new FakeDriver(FrameworkConfig.get().fakeCommandLatency()));
+    }
+}
@@ -0,0 +1,148 @@
+package com.swaglabs.drivers;
+
+import org.openqa.selenium.InvalidSelectorException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Matches {@link FakeElement}s against WebDriver locator strategies.
+ *
+ * CSS selectors cover what page objects typically use: compounds of
+ * tag, #id, .class and [attribute] / [attribute='value'] (also ^=, $=, *=, ~=)
+ * joined by descendant (space) or child (>) combinators. XPath and
+ * pseudo-classes are not evaluated and fail with InvalidSelectorException.
+ */
+final class FakeSelector {
+
+    // One step of a selector and the combinator in front of it
+    private static final Pattern STEP = Pattern.compile("\\s*(>)?\\s*([^\\s>]+)");
+
+    // One simple selector inside a compound
+    private static final Pattern SIMPLE = Pattern.compile(
+            "([a-zA-Z][\\w-]*|\\*)|#([\\w-]+)|\\.([\\w-]+)"
+                    + "|\\[([\\w-]+)(?:([\\^$*~]?=)(?:'([^']*)'|\"([^\"]*)\"|([\\w-]+)))?]"
+    );
+
+    private FakeSelector() {
+        super();
+    }
+
+    /**
+     * Returns the condition an element must meet to be found by the locator.
+     *
+     * @param using locator strategy, as in By.Remotable.Parameters
+     * @param value locator value
+     */
+    static Predicate<FakeElement> compile(String using, String value) {
+        return switch (using) {
+            case "id" -> element -> value.equals(element.attribute("id"));
+            case "name" -> element -> value.equals(element.attribute("name"));
+            case "class name" -> element -> element.hasClass(value);
+            case "tag name" -> element -> element.tag().equalsIgnoreCase(value);
+            case "css selector" -> css(value);
+            case "link text" -> element -> element.tag().equals("a") && element.visibleText().equals(value);
+            case "partial link text" -> element -> element.tag().equals("a") && element.visibleText().contains(value);
+            default -> throw new InvalidSelectorException("FakeDriver does not support '" + using + "' locators: " + value);
+        };
+    }
+
+    private static Predicate<FakeElement> css(String selector) {
+        List<Predicate<FakeElement>> steps = new ArrayList<>();
+        List<Boolean> childCombinators = new ArrayList<>();
+        String trimmed = selector.trim();
+        Matcher step = STEP.matcher(trimmed);
+        int end = 0;
+        while (end < trimmed.length()) {
+            if (!step.find() || step.start() != end || (steps.isEmpty() && step.group(1) != null)) {
+                throw invalid(selector);
+            }
+            childCombinators.add(step.group(1) != null);
+            steps.add(compound(step.group(2), selector));
+            end = step.end();
+        }
+        if (steps.isEmpty()) {
+            throw invalid(selector);
+        }
+        return element -> matches(element, steps, childCombinators, steps.size() - 1);
+    }
+
+    /**
+     * Matches the element against step {@code index}, then its ancestors
+     * against the steps before it, right to left as browsers do.
+     */
+    private static boolean matches(FakeElement element, List<Predicate<FakeElement>> steps,
+                                   List<Boolean> childCombinators, int index) {
+        if (!steps.get(index).test(element)) {
+            return false;
+        }
+        if (index == 0) {
+            return true;
+        }
+        FakeElement ancestor = element.parent();
+        if (childCombinators.get(index)) {
+            return ancestor != null && matches(ancestor, steps, childCombinators, index - 1);
+        }
+        for (; ancestor != null; ancestor = ancestor.parent()) {
+            if (matches(ancestor, steps, childCombinators, index - 1)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Predicate<FakeElement> compound(String compound, String selector) {
+        Predicate<FakeElement> condition = element -> true;
+        Matcher simple = SIMPLE.matcher(compound);
+        int end = 0;
+        while (end < compound.length()) {
+            simple.region(end, compound.length());
+            if (!simple.lookingAt()) {
+                throw invalid(selector);
+            }
+            condition = condition.and(simple(simple));
+            end = simple.end();
+        }
+        return condition;
+    }
+
+    private static Predicate<FakeElement> simple(Matcher simple) {
+        if (simple.group(1) != null) {
+            String tag = simple.group(1);
+            return element -> tag.equals("*") || element.tag().equalsIgnoreCase(tag);
+        }
+        if (simple.group(2) != null) {
+            return compile("id", simple.group(2));
+        }
+        if (simple.group(3) != null) {
+            return compile("class name", simple.group(3));
+        }
+        String name = simple.group(4);
+        String operator = simple.group(5);
+        if (operator == null) {
+            return element -> element.attribute(name) != null;
+        }
+        String expected = simple.group(6) != null ? simple.group(6)
+                : simple.group(7) != null ? simple.group(7) : simple.group(8);
+        return element -> {
+            String actual = element.attribute(name);
+            if (actual == null) {
+                return false;
+            }
+            return switch (operator) {
+                case "^=" -> actual.startsWith(expected);
+                case "$=" -> actual.endsWith(expected);
+                case "*=" -> actual.contains(expected);
+                case "~=" -> List.of(actual.trim().split("\\s+")).contains(expected);
+                default -> actual.equals(expected);
+            };
+        };
+    }
+
+    private static InvalidSelectorException invalid(String selector) {
+        return new InvalidSelectorException("FakeDriver cannot evaluate the CSS selector: " + selector);
+    }
+}
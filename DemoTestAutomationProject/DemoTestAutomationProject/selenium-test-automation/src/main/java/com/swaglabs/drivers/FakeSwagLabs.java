@@ -0,0 +1,439 @@
+package com.swaglabs.drivers;
+
+import org.openqa.selenium.Cookie;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Swag Labs pages served by {@link FakeDriver}: login, inventory, cart
+ * and the three checkout steps, with the same ids, classes and data-test
+ * attributes as the stand-in application (stand-in/static/app.js).
+ *
+ * State is kept the same way as well: the logged-in user in the
+ * "session-username" cookie and the cart as a JSON array of product ids
+ * in localStorage["cart-contents"], so AuthSessionCache and AppState
+ * work against the fake. Pages other than login redirect to it
+ * when nobody is logged in.
+ */
+public final class FakeSwagLabs {
+
+    private static final String PASSWORD = "secret_sauce";
+    private static final List<String> USERS = List.of("standard_user", "locked_out_user", "problem_user",
+            "performance_glitch_user", "error_user", "visual_user");
+    private static final String SESSION_COOKIE = "session-username";
+    private static final String CART_KEY = "cart-contents";
+    private static final String LOGIN_ERROR_KEY = "stand-in-login-error";
+    private static final double TAX_RATE = 0.08;
+
+    // In the order shown by the inventory page (name A to Z)
+    private static final List<Product> PRODUCTS = List.of(
+            new Product(4, "Sauce Labs Backpack", 29.99),
+            new Product(0, "Sauce Labs Bike Light", 9.99),
+            new Product(1, "Sauce Labs Bolt T-Shirt", 15.99),
+            new Product(5, "Sauce Labs Fleece Jacket", 49.99),
+            new Product(2, "Sauce Labs Onesie", 7.99),
+            new Product(3, "Test.allTheThings() T-Shirt (Red)", 15.99)
+    );
+
+    // Script of InventoryIndex locators, arguments: product name, part
+    private static final String INVENTORY_INDEX_SCRIPT = "window.__inventoryIndex";
+
+    private final FakeDriver driver;
+
+    private FakeSwagLabs(FakeDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Registers the application pages and the scripts of its page objects on the driver.
+     */
+    public static FakeDriver install(FakeDriver driver) {
+        FakeSwagLabs app = new FakeSwagLabs(driver);
+        driver.onPage("/", uri -> app.loginPage())
+                .onPage("/index.html", uri -> app.loginPage())
+                .onPage("/inventory.html", app.loggedIn(app::inventoryPage))
+                .onPage("/cart.html", app.loggedIn(app::cartPage))
+                .onPage("/checkout-step-one.html", app.loggedIn(app::checkoutStepOnePage))
+                .onPage("/checkout-step-two.html", app.loggedIn(app::checkoutStepTwoPage))
+                .onPage("/checkout-complete.html", app.loggedIn(app::checkoutCompletePage))
+                .onScript(INVENTORY_INDEX_SCRIPT, args -> app.inventoryRow(String.valueOf(args[0]), String.valueOf(args[1])));
+        return driver;
+    }
+
+    // ---------- Pages ----------
+
+    private FakeElement loginPage() {
+        FakeElement errorContainer = element("div", "error-message-container");
+        FakeElement username = input("user-name", "user-name", "username", "text");
+        FakeElement password = input("password", "password", "password", "password");
+        FakeElement loginButton = input("login-button", "login-button", "login-button", "submit")
+                .classes("submit-button btn_action").attr("value", "Login");
+
+        loginButton.onClick(() -> {
+            String user = username.value();
+            if (user.isEmpty()) {
+                showError(errorContainer, "Epic sadface: Username is required");
+            } else if (password.value().isEmpty()) {
+                showError(errorContainer, "Epic sadface: Password is required");
+            } else if (!USERS.contains(user) || !password.value().equals(PASSWORD)) {
+                showError(errorContainer, "Epic sadface: Username and password do not match any user in this service");
+            } else if (user.equals("locked_out_user")) {
+                showError(errorContainer, "Epic sadface: Sorry, this user has been locked out.");
+            } else {
+                driver.cookies().put(SESSION_COOKIE, new Cookie(SESSION_COOKIE, user, "/"));
+                driver.open("/inventory.html");
+            }
+        });
+
+        String pendingError = driver.sessionStorage().remove(LOGIN_ERROR_KEY);
+        if (pendingError != null) {
+            showError(errorContainer, pendingError);
+        }
+
+        return html(element("div", "login_container").append(
+                element("div", "login_logo").text("Swag Labs"),
+                element("div", "login_wrapper").append(element("div", "login-box").append(
+                        FakeElement.of("form").append(
+                                element("div", "form_group").append(username),
+                                element("div", "form_group").append(password),
+                                errorContainer,
+                                loginButton
+                        )
+                ))
+        ));
+    }
+
+    private FakeElement inventoryPage() {
+        FakeElement list = element("div", "inventory_list").dataTest("inventory-list");
+        for (Product product : PRODUCTS) {
+            FakeElement toggle = button("", "", "", null);
+            renderToggle(toggle, product, cart().contains(product.id()));
+            toggle.onClick(() -> {
+                renderToggle(toggle, product, toggleCart(product.id()));
+                updateBadge();
+            });
+
+            list.append(element("div", "inventory_item").dataTest("inventory-item").append(
+                    element("div", "inventory_item_description").dataTest("inventory-item-description").append(
+                            element("div", "inventory_item_label").append(
+                                    titleLink(product),
+                                    element("div", "inventory_item_desc").dataTest("inventory-item-desc")
+                            ),
+                            element("div", "pricebar").append(
+                                    price(product),
+                                    toggle
+                            )
+                    )
+            ));
+        }
+        return page("Products", element("div", "inventory_container").id("inventory_container").append(list));
+    }
+
+    private FakeElement cartPage() {
+        return page("Your Cart", element("div", "cart_contents_container").id("cart_contents_container").append(
+                cartList(true),
+                element("div", "cart_footer").append(
+                        button("continue-shopping", "Continue Shopping", "btn btn_secondary back btn_medium",
+                                () -> driver.open("/inventory.html")),
+                        button("checkout", "Checkout", "btn btn_action btn_medium checkout_button",
+                                () -> driver.open("/checkout-step-one.html"))
+                )
+        ));
+    }
+
+    private FakeElement checkoutStepOnePage() {
+        FakeElement errorContainer = element("div", "error-message-container");
+        FakeElement firstName = input("first-name", "firstName", "firstName", "text");
+        FakeElement lastName = input("last-name", "lastName", "lastName", "text");
+        FakeElement postalCode = input("postal-code", "postalCode", "postalCode", "text");
+        FakeElement continueButton = input("continue", "continue", "continue", "submit")
+                .classes("submit-button btn btn_primary cart_button btn_action").attr("value", "Continue");
+
+        continueButton.onClick(() -> {
+            if (firstName.value().isEmpty()) {
+                showError(errorContainer, "Error: First Name is required");
+            } else if (lastName.value().isEmpty()) {
+                showError(errorContainer, "Error: Last Name is required");
+            } else if (postalCode.value().isEmpty()) {
+                showError(errorContainer, "Error: Postal Code is required");
+            } else {
+                driver.open("/checkout-step-two.html");
+            }
+        });
+
+        return page("Checkout: Your Information",
+                element("div", "checkout_info_container").id("checkout_info_container").append(
+                        element("div", "checkout_info_wrapper").append(FakeElement.of("form").append(
+                                element("div", "checkout_info").append(
+                                        element("div", "form_group").append(firstName),
+                                        element("div", "form_group").append(lastName),
+                                        element("div", "form_group").append(postalCode),
+                                        errorContainer
+                                ),
+                                element("div", "checkout_buttons").append(
+                                        button("cancel", "Cancel", "btn btn_secondary back btn_medium cart_cancel_link",
+                                                () -> driver.open("/cart.html")),
+                                        continueButton
+                                )
+                        ))
+                ));
+    }
+
+    private FakeElement checkoutStepTwoPage() {
+        double subtotal = 0;
+        for (Integer id : cart()) {
+            subtotal += product(id).price();
+        }
+        double tax = Math.round(subtotal * TAX_RATE * 100) / 100.0;
+
+        return page("Checkout: Overview", element("div", "checkout_summary_container").id("checkout_summary_container").append(
+                cartList(false),
+                element("div", "summary_info").append(
+                        element("div", "summary_subtotal_label").dataTest("subtotal-label").text("Item total: " + money(subtotal)),
+                        element("div", "summary_tax_label").dataTest("tax-label").text("Tax: " + money(tax)),
+                        element("div", "summary_info_label summary_total_label").dataTest("total-label")
+                                .text("Total: " + money(subtotal + tax)),
+                        element("div", "cart_footer").append(
+                                button("cancel", "Cancel", "btn btn_secondary back btn_medium cart_cancel_link",
+                                        () -> driver.open("/inventory.html")),
+                                button("finish", "Finish", "btn btn_action btn_medium cart_button", () -> {
+                                    saveCart(List.of());
+                                    driver.open("/checkout-complete.html");
+                                })
+                        )
+                )
+        ));
+    }
+
+    private FakeElement checkoutCompletePage() {
+        return page("Checkout: Complete!", element("div", "checkout_complete_container").id("checkout_complete_container").append(
+                element("h2", "complete-header").dataTest("complete-header").text("Thank you for your order!"),
+                element("div", "complete-text").dataTest("complete-text")
+                        .text("Your order has been dispatched, and will arrive just as fast as the pony can get there!"),
+                button("back-to-products", "Back Home", "btn btn_primary btn_small", () -> driver.open("/inventory.html"))
+        ));
+    }
+
+    // ---------- Page parts ----------
+
+    /**
+     * Renders the page only for a logged-in user, otherwise redirects to the login page with an error.
+     */
+    private Function<URI, FakeElement> loggedIn(Supplier<FakeElement> page) {
+        return uri -> {
+            if (driver.cookies().containsKey(SESSION_COOKIE)) {
+                return page.get();
+            }
+            driver.sessionStorage().put(LOGIN_ERROR_KEY,
+                    "Epic sadface: You can only access '" + uri.getPath() + "' when you are logged in.");
+            driver.open("/");
+            return html(null);
+        };
+    }
+
+    private FakeElement page(String title, FakeElement content) {
+        FakeElement cartLink = element("a", "shopping_cart_link").dataTest("shopping-cart-link")
+                .attr("href", "/cart.html").onClick(() -> driver.open("/cart.html"));
+        if (!cart().isEmpty()) {
+            cartLink.append(element("span", "shopping_cart_badge").dataTest("shopping-cart-badge")
+                    .text(String.valueOf(cart().size())));
+        }
+
+        return html(element("div", "page_wrapper").id("page_wrapper").append(
+                FakeElement.of("div").id("contents_wrapper").append(
+                        element("div", "header_container").id("header_container").dataTest("header-container").append(
+                                element("div", "primary_header").dataTest("primary-header").append(
+                                        element("div", "header_label").append(element("div", "app_logo").text("Swag Labs")),
+                                        element("div", "shopping_cart_container").id("shopping_cart_container").append(cartLink)
+                                ),
+                                element("div", "header_secondary_container").dataTest("secondary-header").append(
+                                        element("span", "title").dataTest("title").text(title)
+                                )
+                        ),
+                        FakeElement.of("div").id("content").append(content)
+                )
+        ));
+    }
+
+    private FakeElement cartList(boolean removable) {
+        FakeElement list = element("div", "cart_list").dataTest("cart-list").append(
+                element("div", "cart_quantity_label").dataTest("cart-quantity-label").text("QTY"),
+                element("div", "cart_desc_label").dataTest("cart-desc-label").text("Description")
+        );
+        for (Integer id : cart()) {
+            Product product = product(id);
+            FakeElement row = element("div", "cart_item").dataTest("inventory-item");
+            FakeElement priceBar = element("div", "item_pricebar").append(price(product));
+            if (removable) {
+                priceBar.append(button("remove-" + slug(product.name()), "Remove",
+                        "btn btn_secondary btn_small cart_button", () -> {
+                            toggleCart(product.id());
+                            row.remove();
+                            updateBadge();
+                        }));
+            }
+            list.append(row.append(
+                    element("div", "cart_quantity").dataTest("item-quantity").text("1"),
+                    element("div", "cart_item_label").append(
+                            titleLink(product),
+                            element("div", "inventory_item_desc").dataTest("inventory-item-desc"),
+                            priceBar
+                    )
+            ));
+        }
+        return list;
+    }
+
+    private static FakeElement titleLink(Product product) {
+        return FakeElement.of("a").id("item_" + product.id() + "_title_link")
+                .dataTest("item-" + product.id() + "-title-link")
+                .attr("href", "/inventory-item.html?id=" + product.id())
+                .append(element("div", "inventory_item_name").dataTest("inventory-item-name").text(product.name()));
+    }
+
+    private static FakeElement price(Product product) {
+        return element("div", "inventory_item_price").dataTest("inventory-item-price").text(money(product.price()));
+    }
+
+    private void renderToggle(FakeElement toggle, Product product, boolean added) {
+        String id = (added ? "remove-" : "add-to-cart-") + slug(product.name());
+        toggle.id(id).attr("name", id).dataTest(id)
+                .classes("btn " + (added ? "btn_secondary" : "btn_primary") + " btn_small btn_inventory")
+                .text(added ? "Remove" : "Add to cart");
+    }
+
+    private void updateBadge() {
+        FakeElement link = driver.document().first(element -> element.hasClass("shopping_cart_link"));
+        if (link == null) {
+            return;
+        }
+        link.clearChildren();
+        if (!cart().isEmpty()) {
+            link.append(element("span", "shopping_cart_badge").dataTest("shopping-cart-badge")
+                    .text(String.valueOf(cart().size())));
+        }
+    }
+
+    private static void showError(FakeElement container, String message) {
+        container.clearChildren();
+        container.classes("error-message-container error");
+        container.append(FakeElement.of("h3").dataTest("error").text(message));
+    }
+
+    // ---------- InventoryIndex ----------
+
+    /**
+     * Answers the InventoryIndex lookup: [element] for the part of the product row, or [].
+     */
+    private List<FakeElement> inventoryRow(String name, String part) {
+        FakeElement list = driver.document().first(element -> element.hasClass("inventory_list"));
+        if (list == null) {
+            return List.of();
+        }
+        for (FakeElement row : list.descendants(element -> element.hasClass("inventory_item"))) {
+            FakeElement label = row.first(element -> element.hasClass("inventory_item_name"));
+            if (label == null || !label.textContent().trim().equals(name)) {
+                continue;
+            }
+            FakeElement found = switch (part) {
+                case "row" -> row;
+                case "price" -> row.first(element -> element.hasClass("inventory_item_price"));
+                case "add" -> row.first(element -> element.tag().equals("button")
+                        && String.valueOf(element.attribute("data-test")).startsWith("add-to-cart"));
+                case "remove" -> row.first(element -> element.tag().equals("button")
+                        && String.valueOf(element.attribute("data-test")).startsWith("remove"));
+                default -> row.first(element -> element.tag().equals("button"));
+            };
+            return found == null ? List.of() : List.of(found);
+        }
+        return List.of();
+    }
+
+    // ---------- Cart state ----------
+
+    private List<Integer> cart() {
+        String stored = driver.localStorage().get(CART_KEY);
+        List<Integer> ids = new ArrayList<>();
+        if (stored == null) {
+            return ids;
+        }
+        for (String id : stored.replaceAll("[\\[\\]\\s]", "").split(",")) {
+            try {
+                if (PRODUCTS.stream().anyMatch(product -> product.id() == Integer.parseInt(id))) {
+                    ids.add(Integer.parseInt(id));
+                }
+            } catch (NumberFormatException e) {
+                // Not written by the application, ignored like the application does
+            }
+        }
+        return ids;
+    }
+
+    private void saveCart(List<Integer> ids) {
+        Map<String, String> storage = driver.localStorage();
+        if (ids.isEmpty()) {
+            storage.remove(CART_KEY);
+        } else {
+            storage.put(CART_KEY, ids.toString().replace(" ", ""));
+        }
+    }
+
+    /**
+     * Adds or removes the product.
+     *
+     * @return true if the product is in the cart now
+     */
+    private boolean toggleCart(int id) {
+        List<Integer> ids = cart();
+        boolean add = !ids.remove(Integer.valueOf(id));
+        if (add) {
+            ids.add(id);
+        }
+        saveCart(ids);
+        return add;
+    }
+
+    // ---------- Helpers ----------
+
+    private static FakeElement html(FakeElement content) {
+        return FakeElement.of("html").append(
+                FakeElement.of("head").hidden().append(FakeElement.of("title").text("Swag Labs")),
+                FakeElement.of("body").append(FakeElement.of("div").id("root").append(content))
+        );
+    }
+
+    private static FakeElement element(String tag, String className) {
+        return FakeElement.of(tag).classes(className);
+    }
+
+    private static FakeElement input(String id, String name, String dataTest, String type) {
+        return FakeElement.of("input").id(id).attr("name", name).dataTest(dataTest).attr("type", type)
+                .classes("input_error form_input");
+    }
+
+    private static FakeElement button(String id, String text, String className, Runnable onClick) {
+        return FakeElement.of("button").id(id).attr("name", id).dataTest(id).classes(className).text(text)
+                .onClick(onClick);
+    }
+
+    private static Product product(int id) {
+        return PRODUCTS.stream().filter(product -> product.id() == id).findFirst().orElseThrow();
+    }
+
+    private static String slug(String name) {
+        return name.toLowerCase(Locale.ROOT).replaceAll("\\s+", "-");
+    }
+
+    private static String money(double value) {
+        return String.format(Locale.ROOT, "$%.2f", value);
+    }
+
+    private record Product(int id, String name, double price) {
+    }
+}
@@ -1,7 +1,6 @@
 package com.swaglabs.drivers;
 
-import com.swaglabs.utils.PropertiesUtils;
-import org.openqa.selenium.PageLoadStrategy;
+import com.swaglabs.utils.FrameworkConfig.BrowserProfile;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
@@ -15,22 +14,17 @@ public class FirefoxFactory extends AbstractDriver
         implements WebDriverOptionsAbstract<FirefoxOptions> {
 
     @Override
-    public FirefoxOptions getOptions() {
+    public FirefoxOptions getOptions(BrowserProfile profile) {
         FirefoxOptions firefoxOptions = new FirefoxOptions();
 
-        // Common browser configuration
-        firefoxOptions.addArguments("--start-maximized");
-        firefoxOptions.addArguments("--disable-extensions");
-        firefoxOptions.addArguments("--disable-infobars");
-        firefoxOptions.addArguments("--disable-notifications");
-        firefoxOptions.addArguments("--remote-allow-origins=*");
+        // Disable notifications and password prompts (Firefox ignores Chromium switches)
+        firefoxOptions.addPreference("dom.webnotifications.enabled", false);
+        firefoxOptions.addPreference("dom.push.enabled", false);
+        firefoxOptions.addPreference("signon.rememberSignons", false);
 
-        // Enable headless mode for non-local execution
-        if (!PropertiesUtils.getPropertyValue("executionType").equalsIgnoreCase("local")) {
-            firefoxOptions.addArguments("--headless");
-        }
+        // Window, headless mode and page load strategy of the profile
+        BrowserProfiles.applyFirefox(firefoxOptions, profile);
 
-        firefoxOptions.setPageLoadStrategy(PageLoadStrategy.NORMAL);
         firefoxOptions.setAcceptInsecureCerts(true);
 
         return firefoxOptions;
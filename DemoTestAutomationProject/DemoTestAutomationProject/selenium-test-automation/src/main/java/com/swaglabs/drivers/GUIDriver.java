@@ -2,6 +2,7 @@ package com.swaglabs.drivers;
 
 import com.swaglabs.utils.BrowserActions;
 import com.swaglabs.utils.ElementActions;
+import com.swaglabs.utils.FrameworkConfig;
 import com.swaglabs.utils.LogsUtil;
 import com.swaglabs.utils.Validations;
 import org.openqa.selenium.WebDriver;
@@ -18,10 +19,19 @@ public class GUIDriver {
     // Thread-safe WebDriver storage to support parallel test execution
     private static final ThreadLocal<WebDriver> driverThreadLocal = new ThreadLocal<>();
 
+    // Action helpers bound to the current thread's session, rebuilt when the session changes
+    private static final ThreadLocal<SessionHelpers> helpersThreadLocal = new ThreadLocal<>();
+
     WebDriver driver;
 
     public GUIDriver(String browserName) {
-        driver = getDriver(browserName).startDriver();
+        WebDriver session = DriverPool.isEnabled()
+                ? DriverPool.forBrowser(browserName).borrow()
+                : getDriver(browserName).startDriver();
+
+        // Count every command so round-trips per action show up in the logs,
+        // and track navigations so cached elements stay scoped to their page
+        driver = CommandCounter.decorate(session);
         setDriver(driver);
     }
 
@@ -46,9 +56,17 @@ public class GUIDriver {
 
     /**
      * Factory resolver that returns the appropriate browser driver
-     * implementation based on the provided browser name.
+     * implementation based on the provided browser name,
+     * or the remote factory when executionType=Remote.
+     * The in-memory fake browser always runs locally.
      */
-    private AbstractDriver getDriver(String browserName) {
+    static AbstractDriver getDriver(String browserName) {
+        if (browserName.equalsIgnoreCase("fake")) {
+            return new FakeFactory();
+        }
+        if (FrameworkConfig.get().executionType() == FrameworkConfig.ExecutionType.REMOTE) {
+            return new RemoteFactory(browserName);
+        }
         return switch (browserName.toLowerCase()) {
             case "chrome" -> new ChromeFactory();
             case "firefox" -> new FirefoxFactory();
@@ -59,18 +77,69 @@ public class GUIDriver {
 
     private void setDriver(WebDriver driver) {
         driverThreadLocal.set(driver);
+        helpersThreadLocal.remove();
+    }
+
+    /**
+     * Returns the helpers of the current session,
+     * creating them when the thread switched to another session.
+     */
+    private SessionHelpers helpers() {
+        WebDriver current = get();
+        SessionHelpers helpers = helpersThreadLocal.get();
+        if (helpers == null || helpers.driver != current) {
+            helpers = new SessionHelpers(current);
+            helpersThreadLocal.set(helpers);
+        }
+        return helpers;
     }
 
     // Fluent accessors for common driver actions and validations
     public ElementActions element() {
-        return new ElementActions(get());
+        return helpers().element();
     }
 
     public BrowserActions browser() {
-        return new BrowserActions(get());
+        return helpers().browser();
     }
 
     public Validations validate() {
-        return new Validations(get());
+        return helpers().validate();
+    }
+
+    /**
+     * Thread-confined set of action helpers for one WebDriver session.
+     * Each helper is built on first use and then reused by every page object step.
+     */
+    private static class SessionHelpers {
+        private final WebDriver driver;
+        private ElementActions elementActions;
+        private BrowserActions browserActions;
+        private Validations validations;
+
+        private SessionHelpers(WebDriver driver) {
+            this.driver = driver;
+        }
+
+        private ElementActions element() {
+            if (elementActions == null) {
+                elementActions = new ElementActions(driver);
+            }
+            return elementActions;
+        }
+
+        private BrowserActions browser() {
+            if (browserActions == null) {
+                browserActions = new BrowserActions(driver);
+            }
+            return browserActions;
+        }
+
+        private Validations validate() {
+            if (validations == null) {
+                validations = new Validations(driver, browser());
+            }
+            return validations;
+        }
     }
 }
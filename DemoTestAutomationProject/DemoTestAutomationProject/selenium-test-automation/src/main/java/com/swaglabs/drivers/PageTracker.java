@@ -0,0 +1,68 @@
+package com.swaglabs.drivers;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.Method;
+
+/**
+ * WebDriver listener that tracks which page the current thread's session
+ * is on, without asking the browser. Every navigation, window / frame
+ * switch or window close starts a new page, so anything resolved on the
+ * previous page (e.g. cached element references) can be dropped.
+ *
+ * Navigations triggered inside the page (a click on a link or a submit
+ * button) are not seen here; element references from the old page then
+ * fail with StaleElementReferenceException instead.
+ */
+public class PageTracker implements WebDriverListener {
+
+    // Sessions are thread-confined, so one page per thread is enough
+    private static final ThreadLocal<Page> current = ThreadLocal.withInitial(() -> new Page(null, 0));
+
+    static final PageTracker INSTANCE = new PageTracker();
+
+    private PageTracker() {
+        super();
+    }
+
+    /**
+     * Returns the page the current thread's session is on. Two calls return
+     * equal pages as long as no navigation happened in between.
+     */
+    public static Page current() {
+        return current.get();
+    }
+
+    @Override
+    public void afterGet(WebDriver driver, String url) {
+        newPage(url);
+    }
+
+    @Override
+    public void afterAnyNavigationCall(WebDriver.Navigation navigation, Method method, Object[] args, Object result) {
+        newPage(method.getName().equals("to") && args != null && args.length == 1 ? String.valueOf(args[0]) : null);
+    }
+
+    @Override
+    public void afterAnyTargetLocatorCall(WebDriver.TargetLocator targetLocator, Method method, Object[] args, Object result) {
+        newPage(null);
+    }
+
+    @Override
+    public void afterClose(WebDriver driver) {
+        newPage(null);
+    }
+
+    private static void newPage(String url) {
+        Page previous = current.get();
+        current.set(new Page(url, previous.navigation() + 1));
+    }
+
+    /**
+     * Last URL opened through WebDriver (null when unknown) and a
+     * counter that increases with every navigation of the thread.
+     */
+    public record Page(String url, long navigation) {
+    }
+}
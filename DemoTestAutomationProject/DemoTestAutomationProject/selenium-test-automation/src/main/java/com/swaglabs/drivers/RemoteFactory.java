@@ -0,0 +1,203 @@
+package com.swaglabs.drivers;
+
+import com.swaglabs.utils.FrameworkConfig;
+import com.swaglabs.utils.FrameworkConfig.BrowserProfile;
+import com.swaglabs.utils.LogsUtil;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * WebDriver factory for remote execution on one or more
+ * Selenium Grid / standalone server endpoints (gridUrls in web.properties).
+ *
+ * Before each new session the endpoints are ordered by load, using the
+ * busy and total slots reported by their /status endpoint together with
+ * the sessions this JVM has open on them. The session is created on the
+ * least loaded endpoint and retried on the next one if creation fails.
+ * Browser options are the same as for local execution.
+ */
+public class RemoteFactory extends AbstractDriver
+        implements WebDriverOptionsAbstract<Capabilities> {
+
+    // Maximum time to wait for an endpoint's /status answer
+    private static final Duration STATUS_TIMEOUT = Duration.ofSeconds(3);
+
+    private static final HttpClient HTTP = HttpClient.newBuilder()
+            .connectTimeout(STATUS_TIMEOUT)
+            .build();
+
+    // Sessions opened by this JVM and not quit yet, per endpoint
+    private static final Map<URI, AtomicInteger> openSessions = new ConcurrentHashMap<>();
+
+    private final String browserName;
+    private final List<URI> endpoints;
+
+    public RemoteFactory(String browserName) {
+        this(browserName, FrameworkConfig.get().gridUrls());
+    }
+
+    public RemoteFactory(String browserName, List<URI> endpoints) {
+        if (endpoints.isEmpty()) {
+            throw new IllegalStateException("executionType=Remote requires at least one URL in gridUrls");
+        }
+        this.browserName = browserName.toLowerCase();
+        this.endpoints = endpoints;
+    }
+
+    @Override
+    public Capabilities getOptions(BrowserProfile profile) {
+        return switch (browserName) {
+            case "chrome" -> new ChromeFactory().getOptions(profile);
+            case "firefox" -> new FirefoxFactory().getOptions(profile);
+            case "edge" -> new EdgeFactory().getOptions(profile);
+            default -> throw new IllegalArgumentException("Unsupported browser: " + browserName);
+        };
+    }
+
+    @Override
+    public WebDriver startDriver() {
+        Capabilities options = getOptions();
+        SessionNotCreatedException failure = new SessionNotCreatedException(
+                "No grid endpoint could create a " + browserName + " session: " + endpoints);
+
+        for (URI endpoint : byLoad()) {
+            try {
+                WebDriver driver = createSession(endpoint, options);
+                LogsUtil.info("Remote " + browserName + " session created on " + endpoint);
+                return driver;
+            } catch (WebDriverException | MalformedURLException e) {
+                LogsUtil.warn("Failed to create session on " + endpoint + ", trying next endpoint: " + e.getMessage());
+                failure.addSuppressed(e);
+            }
+        }
+        throw failure;
+    }
+
+    /**
+     * Number of sessions this JVM currently has open on an endpoint.
+     */
+    public static int openSessions(URI endpoint) {
+        AtomicInteger count = openSessions.get(endpoint);
+        return count == null ? 0 : count.get();
+    }
+
+    /**
+     * Orders endpoints from least to most loaded. Endpoints that are not
+     * ready or do not answer are kept, but tried last.
+     */
+    List<URI> byLoad() {
+        List<EndpointLoad> loads = new ArrayList<>();
+        endpoints.forEach(endpoint -> loads.add(load(endpoint)));
+        loads.sort(Comparator.comparing((EndpointLoad load) -> !load.ready())
+                .thenComparingDouble(EndpointLoad::utilization)
+                .thenComparingInt(EndpointLoad::busy));
+
+        List<URI> ordered = new ArrayList<>();
+        loads.forEach(load -> ordered.add(load.endpoint()));
+        return ordered;
+    }
+
+    /**
+     * Reserves a slot on the endpoint for the new session and
+     * releases it when the session is quit or fails to start.
+     */
+    private static WebDriver createSession(URI endpoint, Capabilities options) throws MalformedURLException {
+        AtomicInteger open = openSessions.computeIfAbsent(endpoint, key -> new AtomicInteger());
+        open.incrementAndGet();
+        try {
+            return new RemoteWebDriver(endpoint.toURL(), options) {
+                private final AtomicBoolean released = new AtomicBoolean();
+
+                @Override
+                public void quit() {
+                    try {
+                        super.quit();
+                    } finally {
+                        if (released.compareAndSet(false, true)) {
+                            open.decrementAndGet();
+                        }
+                    }
+                }
+            };
+        } catch (RuntimeException | MalformedURLException e) {
+            open.decrementAndGet();
+            throw e;
+        }
+    }
+
+    /**
+     * Reads the slots of all nodes behind an endpoint from its /status answer
+     * (Selenium 4 Grid and standalone servers report them per node).
+     */
+    @SuppressWarnings("unchecked")
+    private static EndpointLoad load(URI endpoint) {
+        int local = openSessions(endpoint);
+        try {
+            HttpRequest request = HttpRequest.newBuilder(statusUri(endpoint))
+                    .timeout(STATUS_TIMEOUT)
+                    .GET()
+                    .build();
+            HttpResponse<String> response = HTTP.send(request, HttpResponse.BodyHandlers.ofString());
+            Map<String, Object> status = new Json().toType(response.body(), Json.MAP_TYPE);
+            Map<String, Object> value = (Map<String, Object>) status.get("value");
+
+            int slots = 0;
+            int busy = 0;
+            for (Object node : (List<Object>) value.getOrDefault("nodes", List.of())) {
+                Map<String, Object> nodeStatus = (Map<String, Object>) node;
+                if (!"UP".equals(nodeStatus.getOrDefault("availability", "UP"))) {
+                    continue;
+                }
+                for (Object slot : (List<Object>) nodeStatus.getOrDefault("slots", List.of())) {
+                    slots++;
+                    if (((Map<String, Object>) slot).get("session") != null) {
+                        busy++;
+                    }
+                }
+            }
+            boolean ready = Boolean.TRUE.equals(value.get("ready"));
+            return new EndpointLoad(endpoint, ready, Math.max(busy, local), slots);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new EndpointLoad(endpoint, false, local, 0);
+        } catch (Exception e) {
+            LogsUtil.warn("Could not read status of " + endpoint + ": " + e.getMessage());
+            return new EndpointLoad(endpoint, false, local, 0);
+        }
+    }
+
+    private static URI statusUri(URI endpoint) {
+        String base = endpoint.toString();
+        return URI.create((base.endsWith("/") ? base : base + "/") + "status");
+    }
+
+    /**
+     * Load of one endpoint at the time of a session request.
+     */
+    private record EndpointLoad(URI endpoint, boolean ready, int busy, int slots) {
+
+        // Unknown capacity counts as fully used so known free slots are preferred
+        private double utilization() {
+            return slots == 0 ? 1.0 + busy : (double) busy / slots;
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package com.swaglabs.drivers;
+
+import com.swaglabs.utils.AllureUtils;
+import com.swaglabs.utils.FrameworkConfig;
+import com.swaglabs.utils.LogsUtil;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Blocks requests the tests do not need (fonts, images, third-party scripts)
+ * in Chrome and Edge sessions, through the DevTools Network.setBlockedURLs command.
+ * Patterns come from blockedUrlPatterns in web.properties.
+ *
+ * Blocked requests are counted per session and reported per test.
+ * A blocked request never reaches the network, so DevTools has no size for
+ * it: the bytes avoided are estimated from the encoded length of responses
+ * of the same resource type (Image, Font, Script, ...) that did load, and
+ * reported as unknown when no such response was seen.
+ */
+public class RequestBlocker {
+
+    // Folder where the blocked request report is exported
+    public static final String METRICS_PATH = "test-outputs/metrics/";
+
+    // Reason Chrome reports for requests blocked by Network.setBlockedURLs
+    private static final String BLOCKED_REASON = "inspector";
+
+    private static final Event<Map<String, Object>> REQUEST_WILL_BE_SENT =
+            new Event<>("Network.requestWillBeSent", input -> input.read(Json.MAP_TYPE));
+    private static final Event<Map<String, Object>> LOADING_FAILED =
+            new Event<>("Network.loadingFailed", input -> input.read(Json.MAP_TYPE));
+    private static final Event<Map<String, Object>> LOADING_FINISHED =
+            new Event<>("Network.loadingFinished", input -> input.read(Json.MAP_TYPE));
+
+    // Blocked requests of each session since its last report, keyed by the undecorated driver
+    private static final Map<WebDriver, SessionCounter> sessions = Collections.synchronizedMap(new WeakHashMap<>());
+
+    // Blocked URLs and their count, per test
+    private static final Map<String, Map<String, Integer>> byTest = new ConcurrentHashMap<>();
+
+    // Resource type of each blocked URL
+    private static final Map<String, String> blockedTypes = new ConcurrentHashMap<>();
+
+    // Encoded bytes and number of responses that loaded, per resource type
+    private static final Map<String, long[]> loadedByType = new HashMap<>();
+
+    private RequestBlocker() {
+        super();
+    }
+
+    /**
+     * Starts blocking the configured URL patterns in a new Chromium session.
+     * Does nothing if blocking is disabled or the session has no DevTools.
+     *
+     * @return the same driver
+     */
+    public static WebDriver enable(WebDriver driver) {
+        FrameworkConfig config = FrameworkConfig.get();
+        if (!config.requestBlockingEnabled() || config.blockedUrlPatterns().isEmpty()
+                || !(driver instanceof HasDevTools hasDevTools)) {
+            return driver;
+        }
+        try {
+            List<String> patterns = config.blockedUrlPatterns();
+            SessionCounter counter = new SessionCounter(toRegex(patterns));
+
+            DevTools devTools = hasDevTools.getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            devTools.addListener(REQUEST_WILL_BE_SENT, counter::onRequest);
+            devTools.addListener(LOADING_FAILED, counter::onFailure);
+            devTools.addListener(LOADING_FINISHED, counter::onFinished);
+            devTools.send(new Command<>("Network.enable", Map.of()));
+            devTools.send(new Command<>("Network.setBlockedURLs", Map.of("urls", patterns)));
+
+            track(driver, counter);
+            LogsUtil.info("Blocking", String.valueOf(patterns.size()), "URL patterns in the new session");
+        } catch (RuntimeException e) {
+            LogsUtil.warn("Request blocking is not available for this session: " + e.getMessage());
+        }
+        return driver;
+    }
+
+    /**
+     * Registers the counter fed with the DevTools events of a session,
+     * so {@link #recordTest(String, WebDriver)} reports its blocked requests.
+     *
+     * @param driver  undecorated session
+     * @param counter counter receiving the session's Network events
+     */
+    static void track(WebDriver driver, SessionCounter counter) {
+        sessions.put(unwrap(driver), counter);
+    }
+
+    /**
+     * Logs and stores the requests blocked in the session since its last report.
+     * Called once after every test method.
+     *
+     * @param testName name shown in the report
+     * @param driver   session used by the test, decorated or not
+     */
+    public static void recordTest(String testName, WebDriver driver) {
+        SessionCounter counter = driver == null ? null : sessions.get(unwrap(driver));
+        if (counter == null) {
+            return;
+        }
+        Map<String, Integer> blocked = counter.drain();
+        if (blocked.isEmpty()) {
+            return;
+        }
+        byTest.merge(testName, blocked, RequestBlocker::add);
+
+        int requests = blocked.values().stream().mapToInt(Integer::intValue).sum();
+        LogsUtil.info("Blocked", String.valueOf(requests), "requests to", String.valueOf(blocked.size()), "URLs",
+                "(~" + formatBytes(estimatedBytes(blocked)) + ")");
+    }
+
+    /**
+     * Writes blocked-requests.csv and lists it with the per test totals in the Allure report.
+     * Does nothing if no request was blocked.
+     */
+    public static void export() {
+        if (byTest.isEmpty()) {
+            return;
+        }
+        StringBuilder csv = new StringBuilder("test,url,type,requests,estimatedBytesPerRequest\n");
+        StringBuilder summary = new StringBuilder(String.format(Locale.ROOT, "%9s %6s %12s  %s%n",
+                "requests", "urls", "~avoided", "test"));
+        int totalRequests = 0;
+        long totalBytes = 0;
+        for (Map.Entry<String, Map<String, Integer>> test : new HashMap<>(byTest).entrySet()) {
+            int requests = 0;
+            for (Map.Entry<String, Integer> url : test.getValue().entrySet()) {
+                requests += url.getValue();
+                csv.append('"').append(test.getKey().replace("\"", "\"\"")).append("\",\"")
+                        .append(url.getKey().replace("\"", "\"\"")).append("\",")
+                        .append(blockedTypes.getOrDefault(url.getKey(), "")).append(',')
+                        .append(url.getValue()).append(',').append(estimatedSize(url.getKey())).append('\n');
+            }
+            long bytes = estimatedBytes(test.getValue());
+            totalRequests += requests;
+            totalBytes += bytes;
+            summary.append(String.format(Locale.ROOT, "%9d %6d %12s  %s%n",
+                    requests, test.getValue().size(), formatBytes(bytes), test.getKey()));
+        }
+        summary.append(String.format(Locale.ROOT, "%9d %6s %12s  %s%n", totalRequests, "", formatBytes(totalBytes), "total"));
+        summary.append("~avoided: blocked requests x average encoded size of loaded responses of the same type,")
+                .append(System.lineSeparator())
+                .append("types with no loaded response count as 0 (estimatedBytesPerRequest = -1 in the CSV)")
+                .append(System.lineSeparator());
+
+        try {
+            Path folder = Files.createDirectories(Path.of(METRICS_PATH));
+            Path file = Files.writeString(folder.resolve("blocked-requests.csv"), csv);
+            AllureUtils.addExecutionSummary("Blocked requests", summary.toString(), file);
+            LogsUtil.info("Blocked requests exported to " + folder);
+        } catch (IOException e) {
+            LogsUtil.error("Failed to export blocked requests: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Converts DevTools URL patterns ('*' matches anything) to one regular expression.
+     */
+    static Pattern toRegex(List<String> patterns) {
+        return Pattern.compile(patterns.stream()
+                .map(pattern -> Pattern.quote(pattern).replace("*", "\\E.*\\Q"))
+                .collect(Collectors.joining("|")));
+    }
+
+    private static WebDriver unwrap(WebDriver driver) {
+        return driver instanceof WrapsDriver wrapper ? wrapper.getWrappedDriver() : driver;
+    }
+
+    /**
+     * Average encoded size of the loaded responses of the URL's resource type.
+     *
+     * @return estimated bytes per request, -1 when unknown
+     */
+    static long estimatedSize(String url) {
+        String type = blockedTypes.get(url);
+        synchronized (loadedByType) {
+            long[] loaded = type == null ? null : loadedByType.get(type);
+            return loaded == null ? -1 : loaded[0] / loaded[1];
+        }
+    }
+
+    private static long estimatedBytes(Map<String, Integer> blocked) {
+        long bytes = 0;
+        for (Map.Entry<String, Integer> url : blocked.entrySet()) {
+            bytes += Math.max(0, estimatedSize(url.getKey())) * url.getValue();
+        }
+        return bytes;
+    }
+
+    private static String formatBytes(long bytes) {
+        return bytes < 1024 ? bytes + " B" : String.format(Locale.ROOT, "%.1f KB", bytes / 1024.0);
+    }
+
+    private static Map<String, Integer> add(Map<String, Integer> first, Map<String, Integer> second) {
+        Map<String, Integer> sum = new HashMap<>(first);
+        second.forEach((url, count) -> sum.merge(url, count, Integer::sum));
+        return sum;
+    }
+
+    /**
+     * Matches blocked failures to the URLs of their requests, and records
+     * the size of the responses that loaded for the estimate.
+     * Fed with Network.requestWillBeSent, Network.loadingFailed and
+     * Network.loadingFinished events from the DevTools connection thread.
+     */
+    static final class SessionCounter {
+        private final Pattern blocked;
+
+        // URLs of requests matching a pattern, until their failure arrives
+        private final Map<String, String> pending = new ConcurrentHashMap<>();
+
+        // Resource type of every request in flight
+        private final Map<String, String> types = new ConcurrentHashMap<>();
+        private final Map<String, Integer> counts = new HashMap<>();
+
+        SessionCounter(Pattern blocked) {
+            this.blocked = blocked;
+        }
+
+        @SuppressWarnings("unchecked")
+        void onRequest(Map<String, Object> event) {
+            String requestId = String.valueOf(event.get("requestId"));
+            Map<String, Object> request = (Map<String, Object>) event.get("request");
+            Object url = request == null ? null : request.get("url");
+            types.put(requestId, String.valueOf(event.getOrDefault("type", "Other")));
+            if (url != null && blocked.matcher(url.toString()).matches()) {
+                pending.put(requestId, url.toString());
+            }
+        }
+
+        void onFailure(Map<String, Object> event) {
+            String requestId = String.valueOf(event.get("requestId"));
+            String type = types.remove(requestId);
+            String url = pending.remove(requestId);
+            if (url != null && BLOCKED_REASON.equals(event.get("blockedReason"))) {
+                synchronized (counts) {
+                    counts.merge(url, 1, Integer::sum);
+                }
+                if (type != null) {
+                    blockedTypes.put(url, type);
+                }
+            }
+        }
+
+        void onFinished(Map<String, Object> event) {
+            String type = types.remove(String.valueOf(event.get("requestId")));
+            if (type != null && event.get("encodedDataLength") instanceof Number length) {
+                synchronized (loadedByType) {
+                    long[] loaded = loadedByType.computeIfAbsent(type, key -> new long[2]);
+                    loaded[0] += length.longValue();
+                    loaded[1]++;
+                }
+            }
+        }
+
+        private Map<String, Integer> drain() {
+            pending.clear();
+            synchronized (counts) {
+                Map<String, Integer> drained = new HashMap<>(counts);
+                counts.clear();
+                return drained;
+            }
+        }
+    }
+}
@@ -1,14 +1,28 @@
 package com.swaglabs.drivers;
 
+import com.swaglabs.utils.FrameworkConfig;
+import com.swaglabs.utils.FrameworkConfig.BrowserProfile;
+
 /**
  * Generic interface for browser options abstraction.
  * Allows each browser to define its own WebDriver options
  * while keeping driver initialization logic consistent.
+ *
+ * Options come in named profiles (browserProfile in web.properties):
+ * Default for regular runs and Fast for CI throughput.
  */
 public interface WebDriverOptionsAbstract<T> {
 
     /**
-     * Builds and returns browser-specific WebDriver options.
+     * Builds and returns browser-specific WebDriver options
+     * for the configured browser profile.
+     */
+    default T getOptions() {
+        return getOptions(FrameworkConfig.get().browserProfile());
+    }
+
+    /**
+     * Builds and returns browser-specific WebDriver options for the given profile.
      */
-    T getOptions();
+    T getOptions(BrowserProfile profile);
 }
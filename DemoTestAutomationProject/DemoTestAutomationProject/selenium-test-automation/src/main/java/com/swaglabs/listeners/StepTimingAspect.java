@@ -0,0 +1,29 @@
+package com.swaglabs.listeners;
+
+import com.swaglabs.utils.StepTimings;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * Times every method annotated with Allure's @Step
+ * (page object actions, ElementActions, BrowserActions, ...).
+ *
+ * Woven at load time by the AspectJ agent configured in the pom,
+ * declared in META-INF/aop.xml. Spans are collected by StepTimings.
+ */
+@Aspect
+public class StepTimingAspect {
+
+    @Around("execution(@io.qameta.allure.Step * *(..))")
+    public Object timeStep(ProceedingJoinPoint joinPoint) throws Throwable {
+        Signature signature = joinPoint.getSignature();
+        StepTimings.enter(signature.getDeclaringType().getSimpleName() + "." + signature.getName());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            StepTimings.exit();
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.swaglabs.listeners;
 
+import com.swaglabs.drivers.DriverPool;
 import com.swaglabs.drivers.GUIDriver;
+import com.swaglabs.drivers.RequestBlocker;
 import com.swaglabs.utils.*;
 import org.testng.*;
 
@@ -42,6 +44,14 @@ public class TestNGListeners
         FilesUtils.createDirectory(allure_results);
         FilesUtils.createDirectory(logs);
         FilesUtils.createDirectory(screenshots);
+
+        // Serve the local copy of the application when running offline
+        if (FrameworkConfig.get().applicationTarget() == FrameworkConfig.ApplicationTarget.STAND_IN) {
+            StandInServer.start(FrameworkConfig.get().standInPort());
+        }
+
+        // Start reusable browser sessions while the first tests are being set up
+        DriverPool.warmUp(FrameworkConfig.get().browserType());
     }
 
     /**
@@ -52,49 +62,92 @@ public class TestNGListeners
     public void onExecutionFinish() {
         LogsUtil.info("Test Execution finished");
 
+        // Quit pooled browser sessions before reporting
+        DriverPool.shutdown();
+        StandInServer.stop();
+
+        // Wait for screenshots still being written in the background
+        ScreenshotsUtils.flush();
+
+        // Export wait durations per locator and list their summary in the report
+        WaitMetrics.export();
+        StepTimings.export();
+        RequestBlocker.export();
+
         AllureUtils.generateAllureReport();
         String reportName = AllureUtils.renameReport();
         AllureUtils.openReport(reportName);
     }
 
     /**
-     * Executes after each test method invocation.
+     * Executes before each test or configuration method.
+     * Keeps the thread's log lines for the report and
+     * opens the timing span the method's steps are nested under.
+     */
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        TestLogAppender.capture();
+        StepTimings.startTest(
+                testResult.getTestClass().getRealClass().getSimpleName() + "."
+                        + method.getTestMethod().getMethodName()
+        );
+    }
+
+    /**
+     * Executes after each test or configuration method invocation.
      * Handles:
+     * - Step timing
      * - Soft assertion validation
      * - Screenshot capturing
-     * - Attaching logs to Allure report
+     * - Blocked request reporting
+     * - Attaching logs to Allure report, for the test and for its @AfterMethod teardown
      */
     @Override
     public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
 
+        // Close the timing span of this method
+        StepTimings.finishTest();
+
         if (method.isTestMethod()) {
 
             // Assert all collected soft assertions
             CustomSoftAssertion.customAssertAll(testResult);
 
-            // Capture screenshot based on test result status
-            switch (testResult.getStatus()) {
-                case ITestResult.SUCCESS ->
-                        ScreenshotsUtils.takeScreenshot(
-                                GUIDriver.getInstance(),
-                                "passed-" + testResult.getName()
-                        );
-
-                case ITestResult.FAILURE ->
-                        ScreenshotsUtils.takeScreenshot(
-                                GUIDriver.getInstance(),
-                                "failed-" + testResult.getName()
-                        );
-
-                case ITestResult.SKIP ->
-                        ScreenshotsUtils.takeScreenshot(
-                                GUIDriver.getInstance(),
-                                "skipped-" + testResult.getName()
-                        );
+            // Capture screenshot based on test result status and the configured policy
+            if (ScreenshotsUtils.shouldCapture(testResult.getStatus())) {
+                switch (testResult.getStatus()) {
+                    case ITestResult.SUCCESS ->
+                            ScreenshotsUtils.takeScreenshot(
+                                    GUIDriver.getInstance(),
+                                    "passed-" + testResult.getName()
+                            );
+
+                    case ITestResult.FAILURE ->
+                            ScreenshotsUtils.takeScreenshot(
+                                    GUIDriver.getInstance(),
+                                    "failed-" + testResult.getName()
+                            );
+
+                    case ITestResult.SKIP ->
+                            ScreenshotsUtils.takeScreenshot(
+                                    GUIDriver.getInstance(),
+                                    "skipped-" + testResult.getName()
+                            );
+                }
             }
 
+            // Report the requests this test did not have to load
+            RequestBlocker.recordTest(
+                    testResult.getTestClass().getRealClass().getSimpleName() + "." + testResult.getName(),
+                    GUIDriver.getInstance()
+            );
+
             // Attach execution logs to Allure report
             AllureUtils.attacheLogsToAllureReport();
+        } else if (method.getTestMethod().isAfterMethodConfiguration()) {
+
+            // Teardown of the test that just finished: its lines go to that test's tear down step
+            AllureUtils.attacheLogsToAllureReport();
         }
     }
 
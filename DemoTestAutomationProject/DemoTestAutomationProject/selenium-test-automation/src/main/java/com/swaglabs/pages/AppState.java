@@ -0,0 +1,149 @@
+package com.swaglabs.pages;
+
+import com.swaglabs.drivers.GUIDriver;
+import com.swaglabs.utils.AuthSessionCache;
+import com.swaglabs.utils.LogsUtil;
+import io.qameta.allure.Step;
+import org.openqa.selenium.JavascriptExecutor;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static com.swaglabs.utils.PropertiesUtils.getPropertyValue;
+
+/**
+ * Test fixture that sets up application state directly instead of
+ * replaying it through the UI, then deep-links to the page under test.
+ * Writes the same client-side state the application keeps itself:
+ * the logged-in user (cached session cookies) and the cart
+ * (product ids in localStorage["cart-contents"]).
+ *
+ * Example:
+ * <pre>
+ * new AppState(driver)
+ *         .loggedInAs("standard_user", "secret_sauce")
+ *         .withProductsInCart("Sauce Labs Backpack", "Sauce Labs Bike Light")
+ *         .openCheckoutStepOne()
+ *         .fillInformationForm("John", "Doe", "12345");
+ * </pre>
+ *
+ * Expects the session to be on a page of the application, e.g. after
+ * {@link LoginPage#navigateToLoginPage()}.
+ */
+public class AppState {
+
+    // localStorage key holding the cart as a JSON array of product ids
+    private static final String CART_KEY = "cart-contents";
+
+    // Product ids used by the application, keyed by product name
+    private static final Map<String, Integer> PRODUCT_IDS = Map.of(
+            "Sauce Labs Bike Light", 0,
+            "Sauce Labs Bolt T-Shirt", 1,
+            "Sauce Labs Onesie", 2,
+            "Test.allTheThings() T-Shirt (Red)", 3,
+            "Sauce Labs Backpack", 4,
+            "Sauce Labs Fleece Jacket", 5
+    );
+
+    // Driver reference
+    private final GUIDriver driver;
+
+    private String username;
+    private String password;
+    private final List<Integer> cart = new ArrayList<>();
+
+    // Constructor
+    public AppState(GUIDriver driver) {
+        this.driver = driver;
+    }
+
+    // ---------- State ----------
+
+    public AppState loggedInAs(String username, String password) {
+        this.username = username;
+        this.password = password;
+        return this;
+    }
+
+    /**
+     * Products in the cart when the page opens, in the given order.
+     */
+    public AppState withProductsInCart(String... productNames) {
+        for (String productName : productNames) {
+            Integer id = PRODUCT_IDS.get(productName);
+            if (id == null) {
+                throw new IllegalArgumentException("Unknown product: " + productName);
+            }
+            cart.add(id);
+        }
+        return this;
+    }
+
+    // ---------- Target pages ----------
+
+    @Step("Open home page with seeded state")
+    public HomePage openHome() {
+        open("inventory.html");
+        return new HomePage(driver);
+    }
+
+    @Step("Open cart with seeded state")
+    public CartPage openCart() {
+        open("cart.html");
+        return new CartPage(driver);
+    }
+
+    @Step("Open checkout step one with seeded state")
+    public InformationPage openCheckoutStepOne() {
+        open("checkout-step-one.html");
+        return new InformationPage(driver);
+    }
+
+    @Step("Open checkout step two with seeded state")
+    public OverviewPage openCheckoutStepTwo() {
+        open("checkout-step-two.html");
+        return new OverviewPage(driver);
+    }
+
+    /**
+     * Writes the state and navigates to the page. A cached session makes this
+     * a single navigation; without one the user logs in through the UI first.
+     */
+    private void open(String page) {
+        if (username == null) {
+            throw new IllegalStateException("AppState requires loggedInAs(...) before opening a page");
+        }
+        String url = URI.create(getPropertyValue("baseURL")).resolve(page).toString();
+
+        boolean restored = AuthSessionCache.isEnabled() && AuthSessionCache.restore(driver.get(), username);
+        if (!restored) {
+            new LoginPage(driver).loginAs(username, password);
+        }
+        seedCart();
+        driver.browser().navigateToURL(url);
+
+        if (restored && !url.equals(driver.browser().getCurrentURL())) {
+            LogsUtil.warn("Cached session of " + username + " was not accepted, logging in through the UI");
+            AuthSessionCache.evict(username);
+            new LoginPage(driver).navigateToLoginPage();
+            new LoginPage(driver).loginAs(username, password);
+            seedCart();
+            driver.browser().navigateToURL(url);
+        }
+        driver.validate().validatePageUrl(url);
+    }
+
+    private void seedCart() {
+        ((JavascriptExecutor) driver.get()).executeScript(
+                "if (arguments[0].length) {"
+                        + " window.localStorage.setItem(arguments[1], JSON.stringify(arguments[0]));"
+                        + "} else {"
+                        + " window.localStorage.removeItem(arguments[1]);"
+                        + "}",
+                cart, CART_KEY
+        );
+        LogsUtil.info("Seeded cart with product ids " + cart);
+    }
+}
@@ -2,9 +2,12 @@ package com.swaglabs.pages;
 
 import com.swaglabs.drivers.GUIDriver;
 import com.swaglabs.utils.CustomSoftAssertion;
+import com.swaglabs.utils.ElementQuery;
 import io.qameta.allure.Step;
 import org.openqa.selenium.By;
 
+import java.util.List;
+
 /**
  * Page Object representing the cart page.
  * Responsible for validating selected products
@@ -27,14 +30,15 @@ public class CartPage {
 
     // ---------- Internal helpers ----------
 
-    @Step("Get product name")
-    private String getProductName() {
-        return driver.element().getText(productName);
-    }
-
-    @Step("Get product price")
-    private String getProductPrice() {
-        return driver.element().getText(productPrice);
+    /**
+     * Reads product name and price in a single call.
+     */
+    @Step("Get product details")
+    private List<String> getProductDetails() {
+        return driver.element().readAll(
+                ElementQuery.text(productName),
+                ElementQuery.text(productPrice)
+        );
     }
 
     // ---------- Actions ----------
@@ -56,15 +60,10 @@ public class CartPage {
             String expectedProductName,
             String expectedProductPrice
     ) {
-        CustomSoftAssertion.softAssertion.assertEquals(
-                getProductName(),
-                expectedProductName,
-                "Product name mismatch"
-        );
-
-        CustomSoftAssertion.softAssertion.assertEquals(
-                getProductPrice(),
-                expectedProductPrice,
+        CustomSoftAssertion.softAssertion().assertEach(
+                getProductDetails(),
+                List.of(expectedProductName, expectedProductPrice),
+                "Product name mismatch",
                 "Product price mismatch"
         );
 
@@ -5,7 +5,6 @@ import com.swaglabs.utils.LogsUtil;
 import com.swaglabs.utils.PropertiesUtils;
 import io.qameta.allure.Step;
 import org.openqa.selenium.By;
-import org.openqa.selenium.support.locators.RelativeLocator;
 
 /**
  * Page Object representing the home/products page.
@@ -42,11 +41,17 @@ public class HomePage {
     @Step("Add specific product to cart")
     public HomePage addSpecificProductToCart(String productName) {
         LogsUtil.info("Adding " + productName + " to cart");
+        driver.element().click(InventoryIndex.addButton(productName));
+        return this;
+    }
 
-        By addToCartButton = RelativeLocator.with(By.tagName("button"))
-                .below(By.xpath("//div[.='" + productName + "']"));
-
-        driver.element().click(addToCartButton);
+    /**
+     * Removes a product from the shopping cart using its "Remove" button.
+     */
+    @Step("Remove specific product from cart")
+    public HomePage removeSpecificProductFromCart(String productName) {
+        LogsUtil.info("Removing " + productName + " from cart");
+        driver.element().click(InventoryIndex.removeButton(productName));
         return this;
     }
 
@@ -64,10 +69,7 @@ public class HomePage {
     @Step("Assert product added to cart")
     public HomePage assertProductAddedToCart(String productName) {
 
-        By addToCartButton = RelativeLocator.with(By.tagName("button"))
-                .below(By.xpath("//div[.='" + productName + "']"));
-
-        String actualValue = driver.element().getText(addToCartButton);
+        String actualValue = driver.element().getText(InventoryIndex.button(productName));
 
         driver.validate().validateEquals(
                 actualValue,
@@ -78,4 +80,22 @@ public class HomePage {
         LogsUtil.info(productName + " added to cart successfully");
         return this;
     }
+
+    /**
+     * Verifies that a product is no longer in the cart.
+     */
+    @Step("Assert product removed from cart")
+    public HomePage assertProductRemovedFromCart(String productName) {
+
+        String actualValue = driver.element().getText(InventoryIndex.button(productName));
+
+        driver.validate().validateEquals(
+                actualValue,
+                "Add to cart",
+                "Product not removed from cart"
+        );
+
+        LogsUtil.info(productName + " removed from cart successfully");
+        return this;
+    }
 }
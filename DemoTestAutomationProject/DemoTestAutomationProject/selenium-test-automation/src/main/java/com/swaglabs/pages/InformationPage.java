@@ -2,9 +2,12 @@ package com.swaglabs.pages;
 
 import com.swaglabs.drivers.GUIDriver;
 import com.swaglabs.utils.CustomSoftAssertion;
+import com.swaglabs.utils.ElementQuery;
 import io.qameta.allure.Step;
 import org.openqa.selenium.By;
 
+import java.util.List;
+
 /**
  * Page Object representing checkout information step.
  * Handles user data entry and validation.
@@ -57,19 +60,15 @@ public class InformationPage {
             String lastName,
             String postalCode
     ) {
-        CustomSoftAssertion.softAssertion.assertEquals(
-                driver.element().getTextFromInput(this.firstName),
-                firstName
-        );
-
-        CustomSoftAssertion.softAssertion.assertEquals(
-                driver.element().getTextFromInput(this.lastName),
-                lastName
+        List<String> enteredValues = driver.element().readAll(
+                ElementQuery.value(this.firstName),
+                ElementQuery.value(this.lastName),
+                ElementQuery.value(this.postalCode)
         );
 
-        CustomSoftAssertion.softAssertion.assertEquals(
-                driver.element().getTextFromInput(this.postalCode),
-                postalCode
+        CustomSoftAssertion.softAssertion().assertEach(
+                enteredValues,
+                List.of(firstName, lastName, postalCode)
         );
 
         return this;
@@ -0,0 +1,142 @@
+package com.swaglabs.pages;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Locators for the rows of the inventory (products) page, resolved
+ * through a product name index kept inside the page.
+ *
+ * The first lookup after a page load scans the product grid once and
+ * stores name -> row in the page. Every later lookup is a direct read
+ * from that index in one script call. The index disappears with the page
+ * on navigation and is rebuilt when rows are added, removed or re-sorted.
+ * Row buttons are read from the row on each lookup, so a re-rendered
+ * "Add to cart" / "Remove" button never goes stale in the index.
+ *
+ * The locators work with the regular waits and element actions, e.g.
+ * {@code driver.element().click(InventoryIndex.addButton("Sauce Labs Backpack"))}.
+ */
+public final class InventoryIndex {
+
+    /*
+     * Returns [element] for the requested part of a product row, or []
+     * while the row is not rendered. arguments: product name, part.
+     */
+    private static final String LOOKUP_SCRIPT = """
+            var name = arguments[0], part = arguments[1];
+            var list = document.querySelector('.inventory_list');
+            if (!list) {
+                return [];
+            }
+            var index = window.__inventoryIndex;
+            if (!index || index.dirty || index.list !== list) {
+                if (index) {
+                    index.observer.disconnect();
+                }
+                index = {list: list, rows: {}, dirty: false};
+                var rows = list.querySelectorAll('.inventory_item');
+                for (var i = 0; i < rows.length; i++) {
+                    var label = rows[i].querySelector('.inventory_item_name');
+                    if (label) {
+                        index.rows[label.textContent.trim()] = rows[i];
+                    }
+                }
+                index.observer = new MutationObserver(function () {
+                    index.dirty = true;
+                });
+                index.observer.observe(list, {childList: true});
+                window.__inventoryIndex = index;
+            }
+            var row = index.rows[name];
+            if (!row || !row.isConnected) {
+                return [];
+            }
+            var selector = {price: '.inventory_item_price', button: 'button',
+                    add: "button[data-test^='add-to-cart']", remove: "button[data-test^='remove']"}[part];
+            var element = part === 'row' ? row : row.querySelector(selector);
+            return element ? [element] : [];
+            """;
+
+    private InventoryIndex() {
+        super();
+    }
+
+    /**
+     * The "Add to cart" / "Remove" button of a product, whichever is shown.
+     */
+    public static By button(String productName) {
+        return new RowLocator(productName, "button");
+    }
+
+    /**
+     * The "Add to cart" button of a product; not found while the product is in the cart.
+     */
+    public static By addButton(String productName) {
+        return new RowLocator(productName, "add");
+    }
+
+    /**
+     * The "Remove" button of a product; not found while the product is not in the cart.
+     */
+    public static By removeButton(String productName) {
+        return new RowLocator(productName, "remove");
+    }
+
+    /**
+     * The price label of a product.
+     */
+    public static By price(String productName) {
+        return new RowLocator(productName, "price");
+    }
+
+    /**
+     * The whole row (card) of a product.
+     */
+    public static By row(String productName) {
+        return new RowLocator(productName, "row");
+    }
+
+    /**
+     * Locator resolved by {@link #LOOKUP_SCRIPT}. Searches the whole page,
+     * whatever context it is used from.
+     */
+    private static final class RowLocator extends By {
+        private final String productName;
+        private final String part;
+
+        private RowLocator(String productName, String part) {
+            this.productName = productName;
+            this.part = part;
+        }
+
+        @Override
+        public List<WebElement> findElements(SearchContext context) {
+            List<?> found = (List<?>) executor(context).executeScript(LOOKUP_SCRIPT, productName, part);
+            List<WebElement> elements = new ArrayList<>(found.size());
+            found.forEach(element -> elements.add((WebElement) element));
+            return elements;
+        }
+
+        private static JavascriptExecutor executor(SearchContext context) {
+            if (context instanceof JavascriptExecutor executor) {
+                return executor;
+            }
+            if (context instanceof WrapsDriver wrapper && wrapper.getWrappedDriver() instanceof JavascriptExecutor executor) {
+                return executor;
+            }
+            throw new IllegalArgumentException("InventoryIndex locators need a JavaScript capable context, got " + context);
+        }
+
+        @Override
+        public String toString() {
+            return "InventoryIndex." + part + ": " + productName;
+        }
+    }
+}
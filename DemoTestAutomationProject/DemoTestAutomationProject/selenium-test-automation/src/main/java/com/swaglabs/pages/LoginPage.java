@@ -1,7 +1,9 @@
 package com.swaglabs.pages;
 
 import com.swaglabs.drivers.GUIDriver;
+import com.swaglabs.utils.AuthSessionCache;
 import com.swaglabs.utils.CustomSoftAssertion;
+import com.swaglabs.utils.LogsUtil;
 import io.qameta.allure.Step;
 import org.openqa.selenium.By;
 
@@ -34,11 +36,39 @@ public class LoginPage {
      */
     @Step("Navigate to the login page")
     public void navigateToLoginPage() {
-        driver.browser().navigateToURL("https://www.saucedemo.com/");
+        driver.browser().navigateToURL(getPropertyValue("baseURL"));
     }
 
     // ---------- Actions ----------
 
+    /**
+     * Logs in for tests that are not about the login itself.
+     * The first login of a user in the run goes through the form;
+     * later ones restore the cached session and open the home page directly.
+     * Expects the login page to be open.
+     */
+    @Step("Log in as: {0}")
+    public HomePage loginAs(String username, String password) {
+        if (AuthSessionCache.isEnabled() && AuthSessionCache.restore(driver.get(), username)) {
+            driver.browser().navigateToURL(getPropertyValue("homeURL"));
+            if (getPropertyValue("homeURL").equals(driver.browser().getCurrentURL())) {
+                return new HomePage(driver);
+            }
+            LogsUtil.warn("Cached session of " + username + " was not accepted, logging in through the UI");
+            AuthSessionCache.evict(username);
+            navigateToLoginPage();
+        }
+
+        HomePage homePage = enterUsername(username)
+                .enterPassword(password)
+                .clickLoginButton()
+                .assertSuccessfulLogin();
+        if (AuthSessionCache.isEnabled()) {
+            AuthSessionCache.capture(driver.get(), username);
+        }
+        return homePage;
+    }
+
     @Step("Enter username: {0}")
     public LoginPage enterUsername(String username) {
         driver.element().type(this.username, username);
@@ -68,7 +98,7 @@ public class LoginPage {
 
     @Step("Assert login page URL")
     public LoginPage assertLoginPageURL() {
-        CustomSoftAssertion.softAssertion.assertEquals(
+        CustomSoftAssertion.softAssertion().assertEquals(
                 driver.browser().getCurrentURL(),
                 getPropertyValue("homeURL"),
                 "URL is not as expected"
@@ -78,7 +108,7 @@ public class LoginPage {
 
     @Step("Assert login page title")
     public LoginPage assertLoginPageTitle() {
-        CustomSoftAssertion.softAssertion.assertEquals(
+        CustomSoftAssertion.softAssertion().assertEquals(
                 driver.browser().getPageTitle(),
                 getPropertyValue("appTitle"),
                 "Title is not as expected"
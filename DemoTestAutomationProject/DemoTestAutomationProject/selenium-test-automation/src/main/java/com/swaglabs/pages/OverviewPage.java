@@ -1,9 +1,12 @@
 package com.swaglabs.pages;
 
 import com.swaglabs.drivers.GUIDriver;
+import com.swaglabs.utils.CustomSoftAssertion;
 import io.qameta.allure.Step;
 import org.openqa.selenium.By;
 
+import java.util.List;
+
 /**
  * Page Object representing order overview page
  * before final order confirmation.
@@ -11,6 +14,8 @@ import org.openqa.selenium.By;
 public class OverviewPage {
 
     // Page locators
+    private final By productName = By.cssSelector(".inventory_item_name");
+    private final By productPrice = By.cssSelector(".inventory_item_price");
     private final By finishButton = By.id("finish");
 
     // Driver reference
@@ -26,4 +31,21 @@ public class OverviewPage {
         driver.element().click(finishButton);
         return new ConfirmationPage(driver);
     }
+
+    /**
+     * Soft validation of the ordered products, in cart order,
+     * before finishing the order.
+     */
+    @Step("Assert order products")
+    public OverviewPage assertOrderProducts(
+            List<String> expectedProductNames,
+            List<String> expectedProductPrices
+    ) {
+        CustomSoftAssertion.softAssertion().assertEquals(
+                driver.element().getTexts(productName), expectedProductNames, "Ordered product names mismatch");
+        CustomSoftAssertion.softAssertion().assertEquals(
+                driver.element().getTexts(productPrice), expectedProductPrices, "Ordered product prices mismatch");
+
+        return this;
+    }
 }
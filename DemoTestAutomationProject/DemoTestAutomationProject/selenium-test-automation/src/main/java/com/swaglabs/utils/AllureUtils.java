@@ -2,9 +2,15 @@ package com.swaglabs.utils;
 
 import io.qameta.allure.Allure;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * AllureUtils
@@ -26,6 +32,12 @@ public class AllureUtils {
     // Path where the generated Allure report will be created
     static String REPORT_PATH = "test-outputs/allure-report";
 
+    // Folder holding the execution summaries, next to the exported metrics
+    static final String SUMMARIES_PATH = "test-outputs/metrics/";
+
+    // Summary name -> files listed in the report's Environment section
+    private static final Map<String, String> executionSummaries = new LinkedHashMap<>();
+
     /*
      * Absolute path to Allure executable.
      * This path is environment-specific and configured for local execution.
@@ -91,8 +103,7 @@ public class AllureUtils {
         String reportPath = REPORT_PATH + File.separator + fileName;
 
         // Check configuration flag before opening report
-        if (PropertiesUtils.getPropertyValue("openAllureAutomatically")
-                .equalsIgnoreCase("true")) {
+        if (FrameworkConfig.get().openAllureAutomatically()) {
 
             String osName = System.getProperty("os.name").toLowerCase();
 
@@ -106,24 +117,21 @@ public class AllureUtils {
     }
 
     /**
-     * Attaches the latest execution log file to Allure report.
+     * Attaches the logs of the test that just finished to Allure report
+     * and clears them, so the next test starts with an empty log.
      * This helps debugging test failures directly from the report.
      */
     public static void attacheLogsToAllureReport() {
         try {
-            File logFile = FilesUtils.getLatestFile(LogsUtil.LOGS_PATH);
+            LogsUtil.info("Attaching test logs to Allure report");
 
-            if (logFile == null || !logFile.exists()) {
-                LogsUtil.warn("Log file does not exist: " + LogsUtil.LOGS_PATH);
+            String testLogs = TestLogAppender.drain();
+            if (testLogs.isEmpty()) {
+                LogsUtil.warn("No logs captured for the current test");
                 return;
             }
 
-            Allure.addAttachment(
-                    "Execution Logs",
-                    Files.readString(Path.of(logFile.getPath()))
-            );
-
-            LogsUtil.info("Logs attached to Allure report");
+            Allure.addAttachment("Execution Logs", "text/plain", testLogs, ".log");
 
         } catch (Exception e) {
             LogsUtil.error("Failed to attach logs to Allure report: " + e.getMessage());
@@ -131,19 +139,60 @@ public class AllureUtils {
     }
 
     /**
-     * Attaches a screenshot file to the Allure report.
+     * Registers a screenshot attachment on the current test.
+     * Must be called on the test thread; the content can be written
+     * later from any thread with {@link #writeAttachment(String, byte[])}.
      *
      * @param screenshotName logical screenshot name
-     * @param screenshotPath physical screenshot file path
+     * @return attachment source to write the content to
+     */
+    public static String prepareScreenshotAttachment(String screenshotName) {
+        return Allure.getLifecycle().prepareAttachment(screenshotName, "image/png", ".png");
+    }
+
+    /**
+     * Writes the content of a previously prepared attachment.
+     *
+     * @param source  attachment source returned when it was prepared
+     * @param content attachment bytes
      */
-    public static void attachScreenshotToAllure(String screenshotName, String screenshotPath) {
+    public static void writeAttachment(String source, byte[] content) {
         try {
-            Allure.addAttachment(
-                    screenshotName,
-                    Files.newInputStream(Path.of(screenshotPath))
-            );
+            Allure.getLifecycle().writeAttachment(source, new ByteArrayInputStream(content));
         } catch (Exception e) {
             LogsUtil.error("Failed to attach screenshot to Allure report: " + e.getMessage());
         }
     }
+
+    /**
+     * Saves a text summary of data collected across the whole execution
+     * rather than by a single test, and lists it with the given files in
+     * the Environment section of the report. No test result is created,
+     * so the pass/fail counts of the report only cover real tests.
+     * Must be called before the report is generated.
+     *
+     * @param name    summary name shown in the report
+     * @param summary text saved as name.txt in test-outputs/metrics
+     * @param files   exported files listed after the summary (.json, .csv, ...)
+     */
+    public static synchronized void addExecutionSummary(String name, String summary, Path... files) {
+        try {
+            Path summaryFile = Files.createDirectories(Path.of(SUMMARIES_PATH))
+                    .resolve(name.toLowerCase().replace(' ', '-') + ".txt");
+            Files.writeString(summaryFile, summary);
+
+            executionSummaries.put(name, Stream.concat(Stream.of(summaryFile), Arrays.stream(files))
+                    .map(file -> file.toString().replace(File.separatorChar, '/'))
+                    .collect(Collectors.joining(", ")));
+
+            // Allure reads report-level key/values from environment.properties
+            StringBuilder environment = new StringBuilder();
+            executionSummaries.forEach((key, value) ->
+                    environment.append(key.replace(" ", "\\ ")).append('=').append(value).append('\n'));
+            Files.writeString(Files.createDirectories(Path.of(ALLURE_RESULTS_PATH))
+                    .resolve("environment.properties"), environment);
+        } catch (Exception e) {
+            LogsUtil.error("Failed to add " + name + " to Allure report: " + e.getMessage());
+        }
+    }
 }
@@ -0,0 +1,137 @@
+package com.swaglabs.utils;
+
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * AuthSessionCache
+ *
+ * Keeps the authenticated browser state of each user for the whole run,
+ * so only the first login of a user goes through the login form.
+ * Handles:
+ *  - Capturing cookies, localStorage and sessionStorage after a UI login
+ *  - Restoring them into another session that is already on the application origin
+ *  - Evicting a user whose cookies expired or were rejected by the application
+ *
+ * State is held in memory only and never written to disk.
+ * Enabled with authSessionCacheEnabled in environment.properties.
+ */
+public class AuthSessionCache {
+
+    // Reads both web storages as {local: {...}, session: {...}}
+    private static final String CAPTURE_STORAGE_SCRIPT = """
+            var dump = function (storage) {
+                var values = {};
+                for (var i = 0; i < storage.length; i++) {
+                    var key = storage.key(i);
+                    values[key] = storage.getItem(key);
+                }
+                return values;
+            };
+            return {local: dump(window.localStorage), session: dump(window.sessionStorage)};
+            """;
+
+    // Replaces both web storages with the captured values
+    private static final String RESTORE_STORAGE_SCRIPT = """
+            var state = arguments[0];
+            var fill = function (storage, values) {
+                storage.clear();
+                Object.keys(values || {}).forEach(function (key) {
+                    storage.setItem(key, values[key]);
+                });
+            };
+            fill(window.localStorage, state.local);
+            fill(window.sessionStorage, state.session);
+            """;
+
+    // Cookies expiring sooner than this are not restored, so they cannot lapse mid-test
+    private static final Duration EXPIRY_MARGIN = Duration.ofMinutes(1);
+
+    // Authenticated state per username
+    private static final Map<String, AuthState> states = new ConcurrentHashMap<>();
+
+    private AuthSessionCache() {
+        super();
+    }
+
+    /**
+     * Whether the cache is enabled in environment.properties.
+     */
+    public static boolean isEnabled() {
+        return FrameworkConfig.get().authSessionCacheEnabled();
+    }
+
+    /**
+     * Stores the authenticated state of the current session for the user.
+     * Call right after a successful UI login.
+     */
+    @SuppressWarnings("unchecked")
+    public static void capture(WebDriver driver, String username) {
+        try {
+            Set<Cookie> cookies = driver.manage().getCookies();
+            Map<String, Object> storage = (Map<String, Object>) ((JavascriptExecutor) driver)
+                    .executeScript(CAPTURE_STORAGE_SCRIPT);
+            states.put(username, new AuthState(Set.copyOf(cookies), storage));
+            LogsUtil.info("Cached authenticated session of", username);
+        } catch (RuntimeException e) {
+            LogsUtil.warn("Failed to cache authenticated session of " + username + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Restores the cached state of the user into the current session.
+     * The session must already be on a page of the application origin,
+     * since cookies and storage can only be written for the open origin.
+     *
+     * @return false if nothing usable is cached and the user has to log in through the UI
+     */
+    public static boolean restore(WebDriver driver, String username) {
+        AuthState state = states.get(username);
+        if (state == null) {
+            return false;
+        }
+        if (state.isExpired()) {
+            LogsUtil.info("Cached session of", username, "expired");
+            states.remove(username, state);
+            return false;
+        }
+        try {
+            WebDriver.Options options = driver.manage();
+            options.deleteAllCookies();
+            state.cookies().forEach(options::addCookie);
+            ((JavascriptExecutor) driver).executeScript(RESTORE_STORAGE_SCRIPT, state.storage());
+            LogsUtil.info("Restored cached session of", username);
+            return true;
+        } catch (RuntimeException e) {
+            LogsUtil.warn("Failed to restore cached session of " + username + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Drops the cached state of the user, e.g. when the application did not accept it.
+     */
+    public static void evict(String username) {
+        if (states.remove(username) != null) {
+            LogsUtil.info("Evicted cached session of", username);
+        }
+    }
+
+    /**
+     * Cookies and web storage that make up one user's authenticated state.
+     */
+    private record AuthState(Set<Cookie> cookies, Map<String, Object> storage) {
+
+        private boolean isExpired() {
+            Date limit = new Date(System.currentTimeMillis() + EXPIRY_MARGIN.toMillis());
+            return cookies.stream().anyMatch(cookie -> cookie.getExpiry() != null && cookie.getExpiry().before(limit));
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.swaglabs.utils;
 
+import com.swaglabs.drivers.DriverPool;
 import io.qameta.allure.Step;
 import org.openqa.selenium.WebDriver;
 
@@ -68,11 +69,12 @@ public class BrowserActions {
 
     /**
      * Closes the browser and terminates the WebDriver session.
+     * Pooled sessions are reset and handed back to the pool instead.
      */
     @Step("Closing the browser")
     public void closeBrowser() {
         LogsUtil.info("Closing the browser");
-        if (driver != null) {
+        if (driver != null && !DriverPool.release(driver)) {
             driver.quit();
         }
     }
@@ -3,6 +3,8 @@ package com.swaglabs.utils;
 import org.testng.ITestResult;
 import org.testng.asserts.SoftAssert;
 
+import java.util.List;
+
 /**
  * CustomSoftAssertion
  *
@@ -11,40 +13,74 @@ import org.testng.asserts.SoftAssert;
  *  - All soft assertions are collected during test execution
  *  - Test status is marked as FAILED if any assertion fails
  *  - Soft assertions are reset after each test to avoid leakage
+ *
+ * Each test thread collects into its own instance, so tests running
+ * in parallel never see or reset each other's assertions.
  */
 public class CustomSoftAssertion extends SoftAssert {
 
     /*
-     * Shared SoftAssert instance used during test execution.
-     * It is reinitialized after each test.
+     * SoftAssert instance of the test running on the current thread.
+     * It is handed off and replaced after each test.
+     */
+    private static final ThreadLocal<CustomSoftAssertion> softAssertion =
+            ThreadLocal.withInitial(CustomSoftAssertion::new);
+
+    /**
+     * Returns the soft assertion collector of the current test.
+     *
+     * @return collector bound to the current thread
      */
-    public static CustomSoftAssertion softAssertion = new CustomSoftAssertion();
+    public static CustomSoftAssertion softAssertion() {
+        return softAssertion.get();
+    }
 
     /**
      * Executes all collected soft assertions.
      * If any assertion fails, the test result is marked as FAILURE
      * and the exception is attached to the TestNG result.
      *
+     * Must be called on the thread that ran the test,
+     * which is the case for TestNG's afterInvocation.
+     *
      * @param result current TestNG test result
      */
     public static void customAssertAll(ITestResult result) {
+        // Detach first so the next test on this thread always starts clean
+        CustomSoftAssertion collected = softAssertion.get();
+        reInitializeSoftAssert();
+
         try {
-            softAssertion.assertAll("Custom Soft Assertion Failed");
+            collected.assertAll("Custom Soft Assertion Failed");
         } catch (AssertionError e) {
             LogsUtil.error("Custom Soft Assertion Failed: " + e.getMessage());
             result.setStatus(ITestResult.FAILURE);
             result.setThrowable(e);
-        } finally {
-            reInitializeSoftAssert();
         }
     }
 
     /**
-     * Reinitializes the SoftAssert instance.
+     * Soft-asserts a batch of values (e.g. read with ElementActions.readAll)
+     * against their expected values, reporting every mismatch separately.
+     *
+     * @param actual   values read from the page
+     * @param expected expected values in the same order
+     * @param messages optional failure message per value
+     */
+    public void assertEach(List<String> actual, List<String> expected, String... messages) {
+        assertEquals(actual.size(), expected.size(), "Number of values read does not match");
+        for (int i = 0; i < Math.min(actual.size(), expected.size()); i++) {
+            String message = i < messages.length ? messages[i] : null;
+            assertEquals(actual.get(i), expected.get(i), message);
+        }
+    }
+
+    /**
+     * Reinitializes the SoftAssert instance of the current thread.
      * This prevents assertion data from one test
      * affecting subsequent tests.
      */
     private static void reInitializeSoftAssert() {
-        softAssertion = new CustomSoftAssertion();
+        softAssertion.remove();
     }
 }
@@ -1,11 +1,20 @@
 package com.swaglabs.utils;
 
+import com.swaglabs.drivers.CommandCounter;
 import io.qameta.allure.Step;
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
 /**
  * ElementActions
  *
@@ -15,16 +24,67 @@ import org.openqa.selenium.WebElement;
  *  - Scrolling to elements
  *  - Logging and Allure steps
  *
+ * In optimized interaction mode the element resolved once is reused
+ * for scrolling and the action, and scrolling is combined with the
+ * readiness check in a single script call.
+ *
+ * With elementCacheEnabled=true resolved elements are also kept for the
+ * rest of the page (see {@link ElementCache}), so repeated actions on the
+ * same locator skip the find round-trip.
+ *
  * This class helps keep Page Objects clean and readable.
  */
 public class ElementActions {
 
+    /*
+     * Scrolls the element into view and reports whether it is ready:
+     * visible, and also enabled when arguments[1] is true.
+     */
+    private static final String SCROLL_AND_CHECK_SCRIPT = """
+            var element = arguments[0];
+            element.scrollIntoView({block: 'center', inline: 'nearest'});
+            var rect = element.getBoundingClientRect();
+            var style = window.getComputedStyle(element);
+            var visible = rect.width > 0 && rect.height > 0
+                    && style.visibility !== 'hidden' && style.display !== 'none';
+            return visible && (!arguments[1] || !element.disabled);
+            """;
+
+    /*
+     * Resolves every query of a batch read inside the page and returns
+     * their values, or null while any element is missing or not visible yet.
+     */
+    private static final String READ_ALL_SCRIPT = ScriptLocator.FUNCTIONS + """
+            var queries = arguments[0], values = [];
+            for (var i = 0; i < queries.length; i++) {
+                var query = queries[i], element = find(query);
+                if (!element || !isVisible(element)) {
+                    return null;
+                }
+                if (query.kind === 'TEXT') {
+                    values.push(element.innerText.trim());
+                } else if (query.kind === 'PROPERTY') {
+                    var property = element[query.name];
+                    values.push(property === undefined || property === null ? null : String(property));
+                } else {
+                    values.push(element.getAttribute(query.name));
+                }
+            }
+            return values;
+            """;
+
     // WebDriver instance
     private WebDriver driver;
 
     // Explicit wait handler
     private Waits waits;
 
+    // Reuse resolved elements instead of re-finding them for every sub-step
+    private final boolean optimized;
+
+    // Elements resolved on the current page, null when caching is disabled
+    private final ElementCache cache;
+
     /**
      * Constructor initializes WebDriver and Waits utilities.
      *
@@ -33,6 +93,8 @@ public class ElementActions {
     public ElementActions(WebDriver driver) {
         this.driver = driver;
         this.waits = new Waits(driver);
+        this.optimized = FrameworkConfig.get().optimizedInteractions();
+        this.cache = FrameworkConfig.get().elementCacheEnabled() ? new ElementCache() : null;
     }
 
     /**
@@ -43,10 +105,19 @@ public class ElementActions {
      */
     @Step("Sending data: {data} to the element: {locator}")
     public void type(By locator, String data) {
-        waits.waitForElementVisible(locator);
-        scrollToElement(locator);
-        findElement(locator).sendKeys(data);
-        LogsUtil.info("Data entered: ", data, " in field: ", locator.toString());
+        long commands = CommandCounter.count();
+        if (optimized) {
+            act(locator, false, element -> {
+                element.sendKeys(data);
+                return null;
+            });
+        } else {
+            actStepByStep(locator, false, element -> {
+                element.sendKeys(data);
+                return null;
+            });
+        }
+        LogsUtil.info("Data entered: ", data, " in field: ", locator.toString(), roundTrips(commands));
     }
 
     /**
@@ -56,10 +127,19 @@ public class ElementActions {
      */
     @Step("Clicking on the element: {locator}")
     public void click(By locator) {
-        waits.waitForElementClickable(locator);
-        scrollToElement(locator);
-        findElement(locator).click();
-        LogsUtil.info("Clicked on element: ", locator.toString());
+        long commands = CommandCounter.count();
+        if (optimized) {
+            act(locator, true, element -> {
+                element.click();
+                return null;
+            });
+        } else {
+            actStepByStep(locator, true, element -> {
+                element.click();
+                return null;
+            });
+        }
+        LogsUtil.info("Clicked on element: ", locator.toString(), roundTrips(commands));
     }
 
     /**
@@ -70,10 +150,14 @@ public class ElementActions {
      */
     @Step("Getting text from the element: {locator}")
     public String getText(By locator) {
-        waits.waitForElementVisible(locator);
-        scrollToElement(locator);
-        String text = findElement(locator).getText();
-        LogsUtil.info("Text retrieved from element: ", locator.toString(), " -> ", text);
+        long commands = CommandCounter.count();
+        String text;
+        if (optimized) {
+            text = act(locator, false, WebElement::getText);
+        } else {
+            text = actStepByStep(locator, false, WebElement::getText);
+        }
+        LogsUtil.info("Text retrieved from element: ", locator.toString(), " -> ", text, roundTrips(commands));
         return text;
     }
 
@@ -84,20 +168,90 @@ public class ElementActions {
      * @return input value
      */
     public String getTextFromInput(By locator) {
-        waits.waitForElementVisible(locator);
-        scrollToElement(locator);
-        String value = findElement(locator).getDomAttribute("value");
-        LogsUtil.info("Value retrieved from input: ", locator.toString(), " -> ", value);
+        long commands = CommandCounter.count();
+        String value;
+        if (optimized) {
+            value = act(locator, false, element -> element.getDomAttribute("value"));
+        } else {
+            value = actStepByStep(locator, false, element -> element.getDomAttribute("value"));
+        }
+        LogsUtil.info("Value retrieved from input: ", locator.toString(), " -> ", value, roundTrips(commands));
         return value;
     }
 
+    /**
+     * Retrieves the visible text of every element matching the locator,
+     * in page order, once the first of them is visible.
+     *
+     * @param locator locator matching several elements
+     * @return visible texts
+     */
+    @Step("Getting texts from the elements: {locator}")
+    public List<String> getTexts(By locator) {
+        long commands = CommandCounter.count();
+        waits.waitForElementVisible(locator);
+        List<String> texts = driver.findElements(locator).stream().map(WebElement::getText).toList();
+        LogsUtil.info("Texts retrieved from elements: ", locator.toString(), " -> ", texts.toString(), roundTrips(commands));
+        return texts;
+    }
+
+    /**
+     * Reads several element values with a single script call.
+     * The call is retried until every element is present and visible.
+     * Queries whose locator cannot be resolved in JavaScript
+     * (e.g. relative locators) make the batch fall back to one read per element.
+     *
+     * @param queries locators and the value to read from each
+     * @return values in the same order as the queries
+     */
+    @Step("Reading elements: {queries}")
+    public List<String> readAll(ElementQuery... queries) {
+        long commands = CommandCounter.count();
+        List<Map<String, Object>> arguments = new ArrayList<>();
+        for (ElementQuery query : queries) {
+            Map<String, Object> argument = query.toScriptArgument();
+            if (argument == null) {
+                arguments = null;
+                break;
+            }
+            arguments.add(argument);
+        }
+
+        List<String> values = arguments == null ? readOneByOne(queries) : readInPage(arguments);
+        LogsUtil.info("Values retrieved: ", Arrays.toString(queries), " -> ", values.toString(), roundTrips(commands));
+        return values;
+    }
+
+    private List<String> readInPage(List<Map<String, Object>> arguments) {
+        List<?> result = (List<?>) waits.synchronize().until(d ->
+                ((JavascriptExecutor) d).executeScript(READ_ALL_SCRIPT, arguments)
+        );
+        List<String> values = new ArrayList<>(result.size());
+        result.forEach(value -> values.add(value == null ? null : value.toString()));
+        return values;
+    }
+
+    private List<String> readOneByOne(ElementQuery... queries) {
+        List<String> values = new ArrayList<>(queries.length);
+        for (ElementQuery query : queries) {
+            values.add(query.readFrom(waits.waitForElementVisible(query.getLocator())));
+        }
+        return values;
+    }
+
     /**
      * Finds a web element using provided locator.
+     * Returns the cached element when element caching is enabled
+     * and the locator was already resolved on the current page.
      *
      * @param locator element locator
      * @return WebElement
      */
     public WebElement findElement(By locator) {
+        return cache != null ? cache.get(locator, this::locate) : locate(locator);
+    }
+
+    private WebElement locate(By locator) {
         LogsUtil.info("Finding element: ", locator.toString());
         return driver.findElement(locator);
     }
@@ -113,4 +267,90 @@ public class ElementActions {
         ((JavascriptExecutor) driver)
                 .executeScript("arguments[0].scrollIntoView(true);", findElement(locator));
     }
+
+    // ---------- Optimized interaction helpers ----------
+
+    /**
+     * Resolves a ready element once and applies the action to it.
+     * The element is re-resolved a single time if it went stale in between.
+     */
+    private <T> T act(By locator, boolean clickable, Function<WebElement, T> action) {
+        WebElement element = resolveReady(locator, clickable);
+        try {
+            return action.apply(element);
+        } catch (StaleElementReferenceException e) {
+            LogsUtil.info("Element went stale, re-resolving: ", locator.toString());
+            forget(locator);
+            return action.apply(resolveReady(locator, clickable));
+        }
+    }
+
+    /**
+     * Finds the element and scrolls it into view while checking readiness
+     * in one script call. Falls back to the regular explicit wait only
+     * when the element is not ready yet.
+     */
+    private WebElement resolveReady(By locator, boolean clickable) {
+        try {
+            WebElement element = findElement(locator);
+            if (Boolean.TRUE.equals(((JavascriptExecutor) driver)
+                    .executeScript(SCROLL_AND_CHECK_SCRIPT, element, clickable))) {
+                return element;
+            }
+        } catch (NoSuchElementException | StaleElementReferenceException e) {
+            // Not ready yet, or the cached element is gone: fall back to waiting
+        }
+
+        WebElement element = clickable
+                ? waits.waitForElementClickable(locator)
+                : waits.waitForElementVisible(locator);
+        remember(locator, element);
+        ((JavascriptExecutor) driver).executeScript(SCROLL_AND_CHECK_SCRIPT, element, clickable);
+        return element;
+    }
+
+    // ---------- Step by step interaction helpers ----------
+
+    /**
+     * Waits for the element, scrolls to it and applies the action with
+     * separate lookups (optimizedInteractions=false). With the element cache
+     * enabled, a cached element that went stale is evicted and the steps
+     * run once more, like {@link #act}.
+     */
+    private <T> T actStepByStep(By locator, boolean clickable, Function<WebElement, T> action) {
+        try {
+            return stepByStep(locator, clickable, action);
+        } catch (StaleElementReferenceException e) {
+            if (cache == null) {
+                throw e;
+            }
+            LogsUtil.info("Element went stale, re-resolving: ", locator.toString());
+            forget(locator);
+            return stepByStep(locator, clickable, action);
+        }
+    }
+
+    private <T> T stepByStep(By locator, boolean clickable, Function<WebElement, T> action) {
+        remember(locator, clickable ? waits.waitForElementClickable(locator) : waits.waitForElementVisible(locator));
+        scrollToElement(locator);
+        return action.apply(findElement(locator));
+    }
+
+    // ---------- Element cache helpers ----------
+
+    private void remember(By locator, WebElement element) {
+        if (cache != null) {
+            cache.put(locator, element);
+        }
+    }
+
+    private void forget(By locator) {
+        if (cache != null) {
+            cache.evict(locator);
+        }
+    }
+
+    private static String roundTrips(long commandsBefore) {
+        return "[" + (CommandCounter.count() - commandsBefore) + " WebDriver commands]";
+    }
 }
@@ -0,0 +1,79 @@
+package com.swaglabs.utils;
+
+import com.swaglabs.drivers.PageTracker;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * ElementCache
+ *
+ * Resolved element references of one session, keyed by locator and
+ * scoped to the page they were found on.
+ * Handles:
+ *  - Returning the cached element instead of locating it again
+ *  - Dropping every entry when {@link PageTracker} reports a new page
+ *  - Evicting single entries that went stale, so callers can re-resolve them
+ *
+ * Used by {@link ElementActions} when elementCacheEnabled=true.
+ * Not thread-safe: like the session it belongs to, it is used by one thread at a time.
+ */
+public class ElementCache {
+
+    private final Map<By, WebElement> elements = new HashMap<>();
+
+    // Page the cached elements belong to
+    private PageTracker.Page page;
+
+    private long hits;
+    private long misses;
+
+    /**
+     * Returns the cached element of the locator on the current page,
+     * or resolves and caches it.
+     *
+     * @param locator element locator
+     * @param finder  resolves the locator when it is not cached
+     */
+    public WebElement get(By locator, Function<By, WebElement> finder) {
+        WebElement element = elements.get(locator);
+        if (element != null && page.equals(PageTracker.current())) {
+            hits++;
+            return element;
+        }
+        misses++;
+        element = finder.apply(locator);
+        put(locator, element);
+        return element;
+    }
+
+    /**
+     * Caches an element resolved elsewhere, e.g. by an explicit wait.
+     */
+    public void put(By locator, WebElement element) {
+        PageTracker.Page now = PageTracker.current();
+        if (!now.equals(page)) {
+            elements.clear();
+            page = now;
+        }
+        elements.put(locator, element);
+    }
+
+    /**
+     * Forgets the element of a locator, typically after it went stale.
+     */
+    public void evict(By locator) {
+        elements.remove(locator);
+    }
+
+    /**
+     * Share of lookups answered from the cache, e.g. "12 hits / 4 misses".
+     */
+    @Override
+    public String toString() {
+        return hits + " hits / " + misses + " misses";
+    }
+}
@@ -0,0 +1,98 @@
+package com.swaglabs.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * ElementQuery
+ *
+ * Describes one value to read in a batched {@link ElementActions#readAll} call:
+ * the element locator plus what to read from it (visible text,
+ * a DOM property or an HTML attribute).
+ */
+public final class ElementQuery {
+
+    /**
+     * What part of the element is read.
+     */
+    public enum Kind {
+        TEXT, PROPERTY, ATTRIBUTE
+    }
+
+    private final By locator;
+    private final Kind kind;
+    private final String name;
+
+    private ElementQuery(By locator, Kind kind, String name) {
+        this.locator = locator;
+        this.kind = kind;
+        this.name = name;
+    }
+
+    /**
+     * Reads the visible text of the element.
+     */
+    public static ElementQuery text(By locator) {
+        return new ElementQuery(locator, Kind.TEXT, null);
+    }
+
+    /**
+     * Reads the current value of an input element.
+     */
+    public static ElementQuery value(By locator) {
+        return property(locator, "value");
+    }
+
+    /**
+     * Reads a DOM property of the element.
+     */
+    public static ElementQuery property(By locator, String name) {
+        return new ElementQuery(locator, Kind.PROPERTY, name);
+    }
+
+    /**
+     * Reads an HTML attribute of the element.
+     */
+    public static ElementQuery attribute(By locator, String name) {
+        return new ElementQuery(locator, Kind.ATTRIBUTE, name);
+    }
+
+    public By getLocator() {
+        return locator;
+    }
+
+    /**
+     * Builds the script argument for this query.
+     *
+     * @return query description, or null if the locator cannot be resolved in JavaScript
+     */
+    Map<String, Object> toScriptArgument() {
+        Map<String, Object> scriptLocator = ScriptLocator.of(locator);
+        if (scriptLocator == null) {
+            return null;
+        }
+        Map<String, Object> argument = new HashMap<>(scriptLocator);
+        argument.put("kind", kind.name());
+        argument.put("name", name == null ? "" : name);
+        return argument;
+    }
+
+    /**
+     * Reads the same value through WebDriver from an already resolved element.
+     */
+    String readFrom(WebElement element) {
+        return switch (kind) {
+            case TEXT -> element.getText();
+            case PROPERTY -> element.getDomProperty(name);
+            case ATTRIBUTE -> element.getDomAttribute(name);
+        };
+    }
+
+    @Override
+    public String toString() {
+        return kind == Kind.TEXT ? "text of " + locator : kind.name().toLowerCase() + " '" + name + "' of " + locator;
+    }
+}
@@ -0,0 +1,478 @@
+package com.swaglabs.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * FrameworkConfig
+ *
+ * Immutable, typed snapshot of the framework configuration.
+ * Handles:
+ *  - Loading the .properties files once from the classpath
+ *  - Applying -D system property overrides on top
+ *  - Validating required values at startup
+ *  - Pointing application URLs at the local stand-in when applicationTarget=StandIn
+ *  - Caching parsed values used on hot paths (waits, driver options, reporting)
+ *
+ * Obtain the shared instance through {@link #get()}.
+ */
+public final class FrameworkConfig {
+
+    // Configuration files loaded from the classpath, later files override earlier ones
+    public static final List<String> PROPERTIES_FILES = List.of(
+            "web.properties",
+            "environment.properties",
+            "waits.properties",
+            "allure.properties"
+    );
+
+    /**
+     * Supported values of the executionType property.
+     */
+    public enum ExecutionType {
+        LOCAL, REMOTE, LOCAL_HEADLESS
+    }
+
+    /**
+     * Supported values of the browserProfile property.
+     */
+    public enum BrowserProfile {
+        DEFAULT, FAST
+    }
+
+    /**
+     * Switches of the Fast browser profile (fast* keys in web.properties).
+     */
+    public record FastProfile(boolean headless, int windowWidth, int windowHeight, boolean disableGpu,
+                              boolean disableBackgroundNetworking, boolean blockImages, boolean eagerPageLoad) {
+    }
+
+    /**
+     * Supported values of the applicationTarget property.
+     */
+    public enum ApplicationTarget {
+        LIVE, STAND_IN
+    }
+
+    /**
+     * Supported values of the screenshotPolicy property.
+     */
+    public enum ScreenshotPolicy {
+        FAILURES, ALL, SAMPLED
+    }
+
+    /**
+     * Supported values of the waitStrategy property.
+     */
+    public enum WaitStrategy {
+        POLLING, EVENT
+    }
+
+    // Raw values after overrides, keyed by property name
+    private final Map<String, String> values;
+
+    // Cached typed values
+    private final ExecutionType executionType;
+    private final List<URI> gridUrls;
+    private final String browserType;
+    private final BrowserProfile browserProfile;
+    private final FastProfile fastProfile;
+    private final Duration explicitWait;
+    private final WaitStrategy waitStrategy;
+    private final boolean openAllureAutomatically;
+    private final boolean sessionPoolEnabled;
+    private final int sessionPoolSize;
+    private final int sessionMaxUses;
+    private final Duration sessionBorrowTimeout;
+    private final boolean optimizedInteractions;
+    private final boolean elementCacheEnabled;
+    private final Duration fakeCommandLatency;
+    private final boolean requestBlockingEnabled;
+    private final List<String> blockedUrlPatterns;
+    private final ApplicationTarget applicationTarget;
+    private final int standInPort;
+    private final boolean authSessionCacheEnabled;
+    private final ScreenshotPolicy screenshotPolicy;
+    private final int screenshotSamplePercent;
+
+    private FrameworkConfig(Map<String, String> values) {
+        this.values = Collections.unmodifiableMap(values);
+
+        List<String> errors = new ArrayList<>();
+        this.executionType = parse(errors, () -> getEnum("executionType", ExecutionType.class), ExecutionType.LOCAL);
+        this.gridUrls = executionType == ExecutionType.REMOTE
+                ? parse(errors, () -> getUris("gridUrls"), List.of())
+                : List.of();
+        this.browserType = parse(errors, () -> getRequired("browserType"), null);
+        this.browserProfile = parse(errors, () -> getEnum("browserProfile", BrowserProfile.class),
+                BrowserProfile.DEFAULT);
+        this.fastProfile = parse(errors, this::getFastProfile, null);
+        this.explicitWait = parse(errors, () -> getSeconds("explicitWait"), null);
+        this.waitStrategy = parse(errors, () -> getEnum("waitStrategy", WaitStrategy.class), WaitStrategy.POLLING);
+        this.openAllureAutomatically = parse(errors, () -> getBoolean("openAllureAutomatically"), false);
+        this.sessionPoolEnabled = parse(errors, () -> getBoolean("sessionPoolEnabled"), false);
+        this.sessionPoolSize = parse(errors, () -> getPositiveInt("sessionPoolSize"), 0);
+        this.sessionMaxUses = parse(errors, () -> getPositiveInt("sessionMaxUses"), 0);
+        this.sessionBorrowTimeout = parse(errors, () -> getSeconds("sessionBorrowTimeout"), null);
+        this.optimizedInteractions = parse(errors, () -> getBoolean("optimizedInteractions"), false);
+        this.elementCacheEnabled = parse(errors, () -> getBoolean("elementCacheEnabled"), false);
+        this.fakeCommandLatency = parse(errors, () -> getMillis("fakeCommandLatency"), Duration.ZERO);
+        this.requestBlockingEnabled = parse(errors, () -> getBoolean("requestBlockingEnabled"), false);
+        this.blockedUrlPatterns = requestBlockingEnabled
+                ? parse(errors, () -> getList("blockedUrlPatterns"), List.of())
+                : List.of();
+        this.applicationTarget = parse(errors, () -> getEnum("applicationTarget", ApplicationTarget.class),
+                ApplicationTarget.LIVE);
+        this.standInPort = parse(errors, () -> getPositiveInt("standInPort"), 0);
+        this.authSessionCacheEnabled = parse(errors, () -> getBoolean("authSessionCacheEnabled"), false);
+        this.screenshotPolicy = parse(errors, () -> getEnum("screenshotPolicy", ScreenshotPolicy.class),
+                ScreenshotPolicy.ALL);
+        this.screenshotSamplePercent = parse(errors, () -> getPercent("screenshotSamplePercent"), 0);
+        String baseURL = parse(errors, () -> getRequired("baseURL"), null);
+        parse(errors, () -> getRequired("homeURL"), null);
+
+        if (!errors.isEmpty()) {
+            throw new IllegalStateException("Invalid framework configuration:\n - " + String.join("\n - ", errors));
+        }
+
+        if (applicationTarget == ApplicationTarget.STAND_IN) {
+            pointAtStandIn(values, baseURL, standInPort);
+        }
+    }
+
+    /**
+     * Returns the shared configuration snapshot, loading it on first access.
+     */
+    public static FrameworkConfig get() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Loads all configuration files from the classpath and applies
+     * -D overrides for every known key.
+     */
+    static FrameworkConfig load() {
+        Properties properties = new Properties();
+        for (String fileName : PROPERTIES_FILES) {
+            try (InputStream stream = FrameworkConfig.class.getClassLoader().getResourceAsStream(fileName)) {
+                if (stream == null) {
+                    LogsUtil.warn("Properties file not found on classpath: " + fileName);
+                    continue;
+                }
+                properties.load(stream);
+            } catch (IOException e) {
+                LogsUtil.error("Failed to read properties file " + fileName + ": " + e.getMessage());
+            }
+        }
+
+        Map<String, String> values = new HashMap<>();
+        properties.stringPropertyNames().forEach(key ->
+                values.put(key, System.getProperty(key, properties.getProperty(key)).trim())
+        );
+        return new FrameworkConfig(values);
+    }
+
+    // ---------- Cached values ----------
+
+    public ExecutionType executionType() {
+        return executionType;
+    }
+
+    /**
+     * Selenium Grid / standalone server endpoints, empty unless executionType=Remote.
+     */
+    public List<URI> gridUrls() {
+        return gridUrls;
+    }
+
+    public String browserType() {
+        return browserType;
+    }
+
+    public BrowserProfile browserProfile() {
+        return browserProfile;
+    }
+
+    public FastProfile fastProfile() {
+        return fastProfile;
+    }
+
+    public Duration explicitWait() {
+        return explicitWait;
+    }
+
+    public WaitStrategy waitStrategy() {
+        return waitStrategy;
+    }
+
+    public boolean openAllureAutomatically() {
+        return openAllureAutomatically;
+    }
+
+    public boolean sessionPoolEnabled() {
+        return sessionPoolEnabled;
+    }
+
+    public int sessionPoolSize() {
+        return sessionPoolSize;
+    }
+
+    public int sessionMaxUses() {
+        return sessionMaxUses;
+    }
+
+    public Duration sessionBorrowTimeout() {
+        return sessionBorrowTimeout;
+    }
+
+    public boolean optimizedInteractions() {
+        return optimizedInteractions;
+    }
+
+    public boolean elementCacheEnabled() {
+        return elementCacheEnabled;
+    }
+
+    /**
+     * Time every command of the in-memory fake browser (browserType=Fake) takes.
+     */
+    public Duration fakeCommandLatency() {
+        return fakeCommandLatency;
+    }
+
+    public boolean requestBlockingEnabled() {
+        return requestBlockingEnabled;
+    }
+
+    /**
+     * URL patterns blocked in Chromium sessions, empty unless requestBlockingEnabled=true.
+     */
+    public List<String> blockedUrlPatterns() {
+        return blockedUrlPatterns;
+    }
+
+    public ApplicationTarget applicationTarget() {
+        return applicationTarget;
+    }
+
+    public int standInPort() {
+        return standInPort;
+    }
+
+    public boolean authSessionCacheEnabled() {
+        return authSessionCacheEnabled;
+    }
+
+    public ScreenshotPolicy screenshotPolicy() {
+        return screenshotPolicy;
+    }
+
+    public int screenshotSamplePercent() {
+        return screenshotSamplePercent;
+    }
+
+    // ---------- Typed accessors ----------
+
+    /**
+     * Returns all loaded keys and their effective values.
+     */
+    public Map<String, String> asMap() {
+        return values;
+    }
+
+    /**
+     * Returns the effective value of a key, falling back to
+     * system properties for keys that are not part of the configuration files.
+     *
+     * @param key property name
+     * @return value or null if undefined
+     */
+    public String getString(String key) {
+        String value = values.get(key);
+        return value != null ? value : System.getProperty(key);
+    }
+
+    public String getRequired(String key) {
+        String value = getString(key);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException(key + " is missing");
+        }
+        return value;
+    }
+
+    public int getInt(String key) {
+        String value = getRequired(key);
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(key + " must be an integer but was '" + value + "'");
+        }
+    }
+
+    public boolean getBoolean(String key) {
+        String value = getRequired(key);
+        if (!value.equalsIgnoreCase("true") && !value.equalsIgnoreCase("false")) {
+            throw new IllegalArgumentException(key + " must be true or false but was '" + value + "'");
+        }
+        return Boolean.parseBoolean(value);
+    }
+
+    /**
+     * Reads a value expressed in whole seconds.
+     */
+    public Duration getSeconds(String key) {
+        return Duration.ofSeconds(getPositiveInt(key));
+    }
+
+    /**
+     * Reads a value expressed in whole milliseconds, zero allowed.
+     */
+    public Duration getMillis(String key) {
+        int value = getInt(key);
+        if (value < 0) {
+            throw new IllegalArgumentException(key + " must not be negative but was " + value);
+        }
+        return Duration.ofMillis(value);
+    }
+
+    /**
+     * Resolves an enum constant ignoring case and underscores,
+     * so "LocalHeadless" matches LOCAL_HEADLESS.
+     */
+    public <E extends Enum<E>> E getEnum(String key, Class<E> type) {
+        String value = getRequired(key);
+        String normalized = value.replace("_", "").replace("-", "");
+        for (E constant : type.getEnumConstants()) {
+            if (constant.name().replace("_", "").equalsIgnoreCase(normalized)) {
+                return constant;
+            }
+        }
+        throw new IllegalArgumentException(key + " has unsupported value '" + value + "'");
+    }
+
+    private int getPositiveInt(String key) {
+        int value = getInt(key);
+        if (value <= 0) {
+            throw new IllegalArgumentException(key + " must be greater than zero but was " + value);
+        }
+        return value;
+    }
+
+    /**
+     * Reads a comma-separated list, skipping blank entries.
+     */
+    public List<String> getList(String key) {
+        String value = getString(key);
+        if (value == null || value.isBlank()) {
+            return List.of();
+        }
+        List<String> items = new ArrayList<>();
+        for (String item : value.split(",")) {
+            if (!item.isBlank()) {
+                items.add(item.trim());
+            }
+        }
+        return List.copyOf(items);
+    }
+
+    /**
+     * Reads a comma-separated list of http(s) URLs.
+     */
+    public List<URI> getUris(String key) {
+        List<URI> uris = new ArrayList<>();
+        for (String value : getRequired(key).split(",")) {
+            try {
+                URI uri = new URI(value.trim());
+                if (!"http".equals(uri.getScheme()) && !"https".equals(uri.getScheme())) {
+                    throw new URISyntaxException(value, "expected an http or https URL");
+                }
+                uris.add(uri);
+            } catch (URISyntaxException e) {
+                throw new IllegalArgumentException(key + " has an invalid URL '" + value.trim() + "'");
+            }
+        }
+        return List.copyOf(uris);
+    }
+
+    /**
+     * Reads the fast* switches; the window size is written as WIDTHxHEIGHT.
+     */
+    private FastProfile getFastProfile() {
+        String windowSize = getRequired("fastWindowSize");
+        String[] parts = windowSize.toLowerCase().split("x");
+        int width;
+        int height;
+        try {
+            width = Integer.parseInt(parts[0].trim());
+            height = Integer.parseInt(parts[1].trim());
+        } catch (RuntimeException e) {
+            width = 0;
+            height = 0;
+        }
+        if (parts.length != 2 || width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("fastWindowSize must look like 1920x1080 but was '" + windowSize + "'");
+        }
+        return new FastProfile(
+                getBoolean("fastHeadless"),
+                width,
+                height,
+                getBoolean("fastDisableGpu"),
+                getBoolean("fastDisableBackgroundNetworking"),
+                getBoolean("fastBlockImages"),
+                getBoolean("fastEagerPageLoad")
+        );
+    }
+
+    private int getPercent(String key) {
+        int value = getInt(key);
+        if (value < 0 || value > 100) {
+            throw new IllegalArgumentException(key + " must be between 0 and 100 but was " + value);
+        }
+        return value;
+    }
+
+    /**
+     * Rewrites every value under the live application origin (baseURL, homeURL, ...)
+     * to the same path on the local stand-in application.
+     */
+    private static void pointAtStandIn(Map<String, String> values, String baseURL, int port) {
+        URI base = URI.create(baseURL);
+        String liveOrigin = base.getScheme() + "://" + base.getAuthority() + "/";
+        String standInOrigin = "http://localhost:" + port + "/";
+        values.replaceAll((key, value) ->
+                value.startsWith(liveOrigin) ? standInOrigin + value.substring(liveOrigin.length()) : value
+        );
+    }
+
+    /**
+     * Reads a value during validation, recording the problem
+     * instead of failing on the first invalid key.
+     */
+    private static <T> T parse(List<String> errors, ValueReader<T> reader, T fallback) {
+        try {
+            return reader.read();
+        } catch (IllegalArgumentException e) {
+            errors.add(e.getMessage());
+            return fallback;
+        }
+    }
+
+    @FunctionalInterface
+    private interface ValueReader<T> {
+        T read();
+    }
+
+    // Lazy, thread-safe initialization of the shared snapshot
+    private static class Holder {
+        private static final FrameworkConfig INSTANCE = load();
+    }
+}
@@ -0,0 +1,260 @@
+package com.swaglabs.utils;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonInput;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * JsonDataStream
+ *
+ * Lazily reads test data rows for TestNG data providers.
+ * Handles:
+ *  - JSON files holding an array of objects (*.json)
+ *  - Newline-delimited JSON, one object per line (*.ndjson, *.jsonl)
+ *  - Filtering rows with "key=value" / "key!=value" conditions joined by "&amp;&amp;"
+ *  - Sharding rows across executions with "index/total" (1-based)
+ *  - Projecting each row to the parameters of the test method
+ *
+ * Only the current row is held in memory, and the file is closed once the
+ * last row has been read. Nested values are reached with dotted keys
+ * (e.g. "product.name").
+ *
+ * Limitation: memory only stays flat with sequential data providers, which
+ * pull rows one test at a time. With parallel = true TestNG drains the whole
+ * iterator into memory before the first test starts, so every row is held
+ * at once; use parallel providers only for files that fit in memory.
+ *
+ * Example:
+ * <pre>
+ * &#64;DataProvider(name = "checkout")
+ * public Iterator&lt;Object[]&gt; checkout() {
+ *     return JsonDataStream.open("checkout-data.ndjson")
+ *             .columns("username", "password", "product")
+ *             .applyConfiguredSelection();
+ * }
+ * </pre>
+ */
+public class JsonDataStream implements Iterator<Object[]> {
+
+    // Base path for JSON test data files
+    private static final String JSON_FILE_PATH = "src/test/resources/";
+
+    private static final Json JSON = new Json();
+
+    private final Path file;
+    private final BufferedReader reader;
+    private final JsonInput arrayInput;
+
+    private String[] columns;
+    private Predicate<Map<String, Object>> filter = row -> true;
+    private int shardIndex = 0;
+    private int shardTotal = 1;
+
+    // Position of the next row in the file, used for sharding
+    private long rowNumber;
+    private Object[] next;
+    private boolean finished;
+
+    private JsonDataStream(Path file) {
+        this.file = file;
+        try {
+            this.reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open test data " + file, e);
+        }
+        String name = file.getFileName().toString();
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            this.arrayInput = null;
+        } else {
+            this.arrayInput = JSON.newInput(reader);
+            this.arrayInput.beginArray();
+        }
+    }
+
+    /**
+     * Opens a data file under src/test/resources.
+     *
+     * @param fileName file name including extension
+     */
+    public static JsonDataStream open(String fileName) {
+        return open(Path.of(JSON_FILE_PATH + fileName));
+    }
+
+    public static JsonDataStream open(Path file) {
+        return new JsonDataStream(file);
+    }
+
+    /**
+     * Yields the given keys of each row as the test parameters, in order.
+     * Without columns each row is passed as a single Map parameter.
+     */
+    public JsonDataStream columns(String... columns) {
+        this.columns = columns;
+        return this;
+    }
+
+    /**
+     * Keeps only rows matching every condition of the expression,
+     * e.g. "username=standard_user &amp;&amp; product.name!=Sauce Labs Onesie".
+     * A blank expression keeps all rows.
+     */
+    public JsonDataStream filter(String expression) {
+        if (expression == null || expression.isBlank()) {
+            return this;
+        }
+        for (String condition : expression.split("&&")) {
+            filter = filter.and(parseCondition(condition.trim()));
+        }
+        return this;
+    }
+
+    /**
+     * Keeps every total-th row starting at row index (1-based),
+     * so several executions can split one file between them.
+     * A blank expression keeps all rows.
+     *
+     * @param expression "index/total", e.g. "2/4"
+     */
+    public JsonDataStream shard(String expression) {
+        if (expression == null || expression.isBlank()) {
+            return this;
+        }
+        String[] parts = expression.trim().split("/");
+        try {
+            int index = Integer.parseInt(parts[0].trim());
+            int total = Integer.parseInt(parts[1].trim());
+            if (parts.length != 2 || total < 1 || index < 1 || index > total) {
+                throw new IllegalArgumentException();
+            }
+            this.shardIndex = index - 1;
+            this.shardTotal = total;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid shard '" + expression + "', expected index/total such as 1/4");
+        }
+        return this;
+    }
+
+    /**
+     * Applies the dataFilter and dataShard values from environment.properties
+     * (or their -D overrides).
+     */
+    public JsonDataStream applyConfiguredSelection() {
+        FrameworkConfig config = FrameworkConfig.get();
+        return filter(config.getString("dataFilter")).shard(config.getString("dataShard"));
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !finished) {
+            next = readNextSelected();
+        }
+        return next != null;
+    }
+
+    @Override
+    public Object[] next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more rows in " + file);
+        }
+        Object[] row = next;
+        next = null;
+        return row;
+    }
+
+    private Object[] readNextSelected() {
+        Map<String, Object> row;
+        while ((row = readRow()) != null) {
+            long position = rowNumber++;
+            if (position % shardTotal == shardIndex && filter.test(row)) {
+                return project(row);
+            }
+        }
+        close();
+        return null;
+    }
+
+    private Map<String, Object> readRow() {
+        try {
+            if (arrayInput != null) {
+                return arrayInput.hasNext() ? arrayInput.read(Json.MAP_TYPE) : null;
+            }
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    return JSON.toType(line, Json.MAP_TYPE);
+                }
+            }
+            return null;
+        } catch (IOException e) {
+            close();
+            throw new UncheckedIOException("Failed to read test data " + file, e);
+        } catch (RuntimeException e) {
+            close();
+            throw new IllegalStateException("Invalid test data in " + file + " at row " + (rowNumber + 1), e);
+        }
+    }
+
+    private Object[] project(Map<String, Object> row) {
+        if (columns == null) {
+            return new Object[]{row};
+        }
+        Object[] values = new Object[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            values[i] = valueOf(row, columns[i]);
+        }
+        return values;
+    }
+
+    private void close() {
+        finished = true;
+        try {
+            if (arrayInput != null) {
+                arrayInput.close();
+            }
+            reader.close();
+        } catch (IOException | RuntimeException e) {
+            LogsUtil.warn("Failed to close test data " + file + ": " + e.getMessage());
+        }
+    }
+
+    private static Predicate<Map<String, Object>> parseCondition(String condition) {
+        boolean negated = condition.contains("!=");
+        String[] parts = condition.split(negated ? "!=" : "=", 2);
+        if (parts.length != 2 || parts[0].isBlank()) {
+            throw new IllegalArgumentException("Invalid filter condition '" + condition
+                    + "', expected key=value or key!=value");
+        }
+        String key = parts[0].trim();
+        String expected = parts[1].trim();
+        return row -> String.valueOf(valueOf(row, key)).equals(expected) != negated;
+    }
+
+    /**
+     * Resolves a dotted key through nested objects.
+     */
+    @SuppressWarnings("unchecked")
+    private static Object valueOf(Map<String, Object> row, String key) {
+        Object value = row.get(key);
+        if (value != null || !key.contains(".")) {
+            return value;
+        }
+        Object current = row;
+        for (String part : key.split("\\.")) {
+            if (!(current instanceof Map)) {
+                return null;
+            }
+            current = ((Map<String, Object>) current).get(part);
+        }
+        return current;
+    }
+}
@@ -1,39 +1,57 @@
 package com.swaglabs.utils;
 
+import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.JsonPath;
-import org.json.simple.JSONObject;
-import org.json.simple.parser.JSONParser;
 
-import java.io.FileReader;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * JsonUtils
  *
  * Utility class used for reading test data from JSON files.
  * Supports JsonPath expressions for flexible data retrieval.
+ *
+ * Each file is parsed once per JVM and shared by every JsonUtils
+ * instance reading it; JsonPath expressions are compiled once as well.
  */
 public class JsonUtils {
 
     // Base path for JSON test data files
     private static final String JSON_FILE_PATH = "src/test/resources/";
 
-    private String jsonReader;
-    private String jsonFileName;
+    // JsonPath configuration used for parsing, reading and type conversion
+    private static final Configuration CONFIGURATION = Configuration.defaultConfiguration();
+
+    // Parsed documents keyed by file name
+    private static final Map<String, Object> documents = new ConcurrentHashMap<>();
+
+    // Compiled JsonPath expressions keyed by expression
+    private static final Map<String, JsonPath> paths = new ConcurrentHashMap<>();
+
+    private final Object document;
+    private final String jsonFileName;
 
     /**
-     * Loads JSON file into memory.
+     * Loads JSON file into memory, or reuses it if already loaded.
      *
      * @param jsonFileName file name without extension
      */
     public JsonUtils(String jsonFileName) {
         this.jsonFileName = jsonFileName;
+        Object parsed = null;
         try {
-            JSONObject data = (JSONObject) new JSONParser()
-                    .parse(new FileReader(JSON_FILE_PATH + jsonFileName + ".json"));
-            jsonReader = data.toJSONString();
+            parsed = documents.computeIfAbsent(jsonFileName, JsonUtils::parse);
         } catch (Exception e) {
             LogsUtil.error(e.getMessage());
         }
+        this.document = parsed;
     }
 
     /**
@@ -43,12 +61,70 @@ public class JsonUtils {
      * @return value from JSON
      */
     public String getJsonData(String jsonPath) {
-        String testData = "";
+        return read(jsonPath, String.class, "");
+    }
+
+    /**
+     * Retrieves a whole number from JSON.
+     *
+     * @param jsonPath JsonPath expression
+     * @return value from JSON, 0 if missing
+     */
+    public int getInt(String jsonPath) {
+        return read(jsonPath, Integer.class, 0);
+    }
+
+    /**
+     * Retrieves a decimal number from JSON.
+     *
+     * @param jsonPath JsonPath expression
+     * @return value from JSON, 0 if missing
+     */
+    public double getDouble(String jsonPath) {
+        return read(jsonPath, Double.class, 0d);
+    }
+
+    /**
+     * Retrieves a boolean from JSON.
+     *
+     * @param jsonPath JsonPath expression
+     * @return value from JSON, false if missing
+     */
+    public boolean getBoolean(String jsonPath) {
+        return read(jsonPath, Boolean.class, false);
+    }
+
+    /**
+     * Retrieves an array (or the results of a filter expression) from JSON.
+     *
+     * @param jsonPath JsonPath expression
+     * @param type     type of the elements
+     * @return copy of the values, empty if missing
+     */
+    public <T> List<T> getList(String jsonPath, Class<T> type) {
+        List<?> values = read(jsonPath, List.class, List.of());
+        List<T> result = new ArrayList<>(values.size());
+        for (Object value : values) {
+            result.add(CONFIGURATION.mappingProvider().map(value, type, CONFIGURATION));
+        }
+        return result;
+    }
+
+    private <T> T read(String jsonPath, Class<T> type, T fallback) {
         try {
-            testData = JsonPath.read(jsonReader, jsonPath);
+            Object value = paths.computeIfAbsent(jsonPath, JsonPath::compile).read(document, CONFIGURATION);
+            return CONFIGURATION.mappingProvider().map(value, type, CONFIGURATION);
+        } catch (Exception e) {
+            LogsUtil.error("No value for json path: " + jsonPath + " in " + jsonFileName);
+            return fallback;
+        }
+    }
+
+    private static Object parse(String jsonFileName) {
+        try (InputStream stream = Files.newInputStream(Path.of(JSON_FILE_PATH + jsonFileName + ".json"))) {
+            return CONFIGURATION.jsonProvider().parse(stream, StandardCharsets.UTF_8.name());
         } catch (Exception e) {
-            LogsUtil.error("No value for json path: " + jsonPath);
+            throw new IllegalStateException("Failed to load test data " + jsonFileName + ": " + e.getMessage(), e);
         }
-        return testData;
     }
 }
@@ -0,0 +1,302 @@
+package com.swaglabs.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.locators.RelativeLocator;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * LocatorProfiler
+ *
+ * Measures how expensive the locators of a page object are.
+ * Handles:
+ *  - Reading the private final By fields of a page object through reflection
+ *  - Resolving each one repeatedly on the open page, recording latency and match count
+ *  - Flagging text based XPath and relative locators that have a cheaper
+ *    id or CSS equivalent matching the same elements
+ *  - Exporting a ranking (most expensive first) as CSV with a summary listed in the Allure report
+ *
+ * Used by the LocatorCostProfile run, which opens every page of the application.
+ */
+public class LocatorProfiler {
+
+    // Folder where the locator costs are exported
+    public static final String METRICS_PATH = "test-outputs/metrics/";
+
+    // XPath predicates that compare the text content of a node, e.g. [.='Backpack'] or text()
+    private static final Pattern TEXT_PREDICATE = Pattern.compile(
+            "text\\(\\)|[\\[(,]\\s*\\.\\s*[=,)]|normalize-space\\(\\s*\\)|string\\(\\s*\\)");
+
+    /*
+     * Returns {using, value} of the cheapest id or CSS selector matching exactly
+     * the given elements, or null when there is none. arguments: matched elements.
+     */
+    private static final String EQUIVALENT_SCRIPT = """
+            var elements = arguments[0];
+            var first = elements[0];
+            var same = function (selector) {
+                var found;
+                try {
+                    found = document.querySelectorAll(selector);
+                } catch (e) {
+                    return false;
+                }
+                if (found.length !== elements.length) {
+                    return false;
+                }
+                for (var i = 0; i < found.length; i++) {
+                    if (elements.indexOf(found[i]) < 0) {
+                        return false;
+                    }
+                }
+                return true;
+            };
+            var shared = function (read) {
+                var value = read(first);
+                return value && elements.every(function (element) {
+                    return read(element) === value;
+                }) ? value : null;
+            };
+            if (elements.length === 1 && first.id && same('#' + CSS.escape(first.id))) {
+                return {using: 'id', value: first.id};
+            }
+            var candidates = [];
+            var dataTest = shared(function (element) {
+                return element.getAttribute('data-test');
+            });
+            if (dataTest) {
+                candidates.push('[data-test="' + CSS.escape(dataTest) + '"]');
+            }
+            var tag = shared(function (element) {
+                return element.tagName.toLowerCase();
+            });
+            Array.prototype.forEach.call(first.classList, function (name) {
+                if (elements.every(function (element) { return element.classList.contains(name); })) {
+                    candidates.push('.' + CSS.escape(name));
+                    if (tag) {
+                        candidates.push(tag + '.' + CSS.escape(name));
+                    }
+                }
+            });
+            for (var c = 0; c < candidates.length; c++) {
+                if (same(candidates[c])) {
+                    return {using: 'css', value: candidates[c]};
+                }
+            }
+            return null;
+            """;
+
+    // Results of every profiled page, in profiling order
+    private static final List<LocatorCost> results = new ArrayList<>();
+
+    private LocatorProfiler() {
+        super();
+    }
+
+    /**
+     * Profiles the locators of a page object on the page that is currently open.
+     * Results are also kept for {@link #export()}.
+     *
+     * @param driver     session showing the page of the page object
+     * @param page       page object whose private final By fields are profiled
+     * @param iterations resolutions measured per locator, after one warm-up
+     * @return one cost per locator, in field order
+     */
+    public static List<LocatorCost> profile(WebDriver driver, Object page, int iterations) {
+        if (iterations < 1) {
+            throw new IllegalArgumentException("iterations must be at least 1, got " + iterations);
+        }
+        String pageName = page.getClass().getSimpleName();
+        List<LocatorCost> costs = new ArrayList<>();
+        for (Field field : page.getClass().getDeclaredFields()) {
+            int modifiers = field.getModifiers();
+            if (!By.class.isAssignableFrom(field.getType()) || Modifier.isStatic(modifiers)
+                    || !Modifier.isPrivate(modifiers) || !Modifier.isFinal(modifiers)) {
+                continue;
+            }
+            By locator;
+            try {
+                field.setAccessible(true);
+                locator = (By) field.get(page);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                LogsUtil.warn("Cannot read locator " + pageName + "." + field.getName() + ": " + e.getMessage());
+                continue;
+            }
+            LocatorCost cost = measure(driver, pageName, field.getName(), locator, iterations);
+            LogsUtil.info("Locator cost:", cost.toString());
+            costs.add(cost);
+        }
+        synchronized (results) {
+            results.addAll(costs);
+        }
+        return costs;
+    }
+
+    /**
+     * Writes locator-costs.csv and attaches the ranking to the Allure report.
+     * Does nothing if no locator was profiled.
+     */
+    public static void export() {
+        List<LocatorCost> ranked;
+        synchronized (results) {
+            ranked = new ArrayList<>(results);
+        }
+        if (ranked.isEmpty()) {
+            return;
+        }
+        ranked.sort(Comparator.comparingLong(LocatorCost::medianNanos).reversed());
+
+        StringBuilder csv = new StringBuilder(
+                "page,field,kind,locator,matches,medianMs,maxMs,flagged,equivalent,equivalentMedianMs\n");
+        StringBuilder summary = new StringBuilder(String.format(Locale.ROOT, "%10s %10s %8s  %-10s %s%n",
+                "median ms", "max ms", "matches", "kind", "locator"));
+        for (LocatorCost cost : ranked) {
+            csv.append(String.join(",", quote(cost.page()), quote(cost.field()), cost.kind(), quote(cost.locator()),
+                    String.valueOf(cost.matches()), millis(cost.medianNanos()), millis(cost.maxNanos()),
+                    String.valueOf(cost.isFlagged()), quote(cost.isFlagged() ? cost.equivalent() : ""),
+                    cost.isFlagged() ? millis(cost.equivalentMedianNanos()) : "")).append('\n');
+            summary.append(String.format(Locale.ROOT, "%10s %10s %8d  %-10s %s.%s = %s%n",
+                    millis(cost.medianNanos()), millis(cost.maxNanos()), cost.matches(), cost.kind(),
+                    cost.page(), cost.field(), cost.locator()));
+            if (cost.isFlagged()) {
+                summary.append(String.format(Locale.ROOT, "%32s-> use %s (%s ms)%n",
+                        "", cost.equivalent(), millis(cost.equivalentMedianNanos())));
+            }
+        }
+
+        try {
+            Path folder = Files.createDirectories(Path.of(METRICS_PATH));
+            Path file = Files.writeString(folder.resolve("locator-costs.csv"), csv);
+            AllureUtils.addExecutionSummary("Locator costs", summary.toString(), file);
+            LogsUtil.info("Locator costs exported to " + folder);
+        } catch (IOException e) {
+            LogsUtil.error("Failed to export locator costs: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Kind of a locator as shown in the report: id, css, xpath, xpath-text, relative,
+     * or the lower-case locator type for anything else (e.g. classname, custom).
+     */
+    public static String kindOf(By locator) {
+        if (locator instanceof RelativeLocator.RelativeBy) {
+            return "relative";
+        }
+        if (locator instanceof By.ByXPath) {
+            String expression = locator.toString().replaceFirst("^By\\.xpath: ", "");
+            return TEXT_PREDICATE.matcher(expression).find() ? "xpath-text" : "xpath";
+        }
+        if (locator instanceof By.ById) {
+            return "id";
+        }
+        if (locator instanceof By.ByCssSelector) {
+            return "css";
+        }
+        return locator.getClass().getEnclosingClass() == By.class
+                ? locator.getClass().getSimpleName().substring(2).toLowerCase(Locale.ROOT)
+                : "custom";
+    }
+
+    private static LocatorCost measure(WebDriver driver, String page, String field, By locator, int iterations) {
+        List<WebElement> matched = driver.findElements(locator);
+        long[] nanos = time(driver, locator, iterations);
+        String kind = kindOf(locator);
+
+        String equivalent = null;
+        long equivalentNanos = 0;
+        if (!matched.isEmpty() && (kind.equals("xpath-text") || kind.equals("relative"))) {
+            By cheaper = equivalentOf(driver, matched);
+            // Relative locators return the nearest element first, so compare ignoring order
+            if (cheaper != null && new HashSet<>(driver.findElements(cheaper)).equals(new HashSet<>(matched))) {
+                equivalent = cheaper.toString();
+                equivalentNanos = median(time(driver, cheaper, iterations));
+            }
+        }
+        return new LocatorCost(page, field, locator.toString(), kind, matched.size(),
+                median(nanos), Arrays.stream(nanos).max().orElse(0), equivalent, equivalentNanos);
+    }
+
+    private static long[] time(WebDriver driver, By locator, int iterations) {
+        driver.findElements(locator);
+        long[] nanos = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            driver.findElements(locator);
+            nanos[i] = System.nanoTime() - start;
+        }
+        return nanos;
+    }
+
+    /**
+     * Finds an id or CSS locator matching exactly the same elements, or null.
+     */
+    private static By equivalentOf(WebDriver driver, List<WebElement> matched) {
+        Object found;
+        try {
+            found = ((JavascriptExecutor) driver).executeScript(EQUIVALENT_SCRIPT, matched);
+        } catch (RuntimeException e) {
+            LogsUtil.warn("Cannot look up a cheaper locator: " + e.getMessage());
+            return null;
+        }
+        if (!(found instanceof Map<?, ?> equivalent)) {
+            return null;
+        }
+        String value = String.valueOf(equivalent.get("value"));
+        return "id".equals(equivalent.get("using")) ? By.id(value) : By.cssSelector(value);
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.2f", nanos / 1e6);
+    }
+
+    private static String quote(String value) {
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * Cost of one page object locator.
+     *
+     * @param matches               elements matched on the profiled page
+     * @param medianNanos           median resolution time
+     * @param maxNanos              slowest resolution
+     * @param equivalent            cheaper locator matching the same elements, null if none or not needed
+     * @param equivalentMedianNanos median resolution time of the equivalent
+     */
+    public record LocatorCost(String page, String field, String locator, String kind, int matches,
+                              long medianNanos, long maxNanos, String equivalent, long equivalentMedianNanos) {
+
+        /**
+         * Whether the locator is text XPath or relative and has a cheaper equivalent.
+         */
+        public boolean isFlagged() {
+            return equivalent != null;
+        }
+
+        @Override
+        public String toString() {
+            return page + "." + field + " [" + kind + "] " + millis(medianNanos) + " ms median, "
+                    + matches + " matches" + (isFlagged() ? ", cheaper: " + equivalent : "");
+        }
+    }
+}
@@ -1,37 +1,145 @@
 package com.swaglabs.utils;
 
+import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.LoggerConfig;
+
+import java.util.function.Supplier;
 
 /**
  * LogsUtil
  *
  * Central logging utility using Log4j2.
  * Automatically detects caller class.
+ *
+ * The caller is resolved with a {@link StackWalker} that stops at the first
+ * frame outside this class, and messages are only built when the level is
+ * enabled. Levels that no logger of the configuration accepts are rejected
+ * before the caller lookup. Classes that log on hot paths can take a cached per-class handle
+ * through {@link #forClass(Class)}, which also supports "{}" parameters.
  */
 public class LogsUtil {
 
     public static final String LOGS_PATH = "test-outputs/Logs";
 
+    // Walks frames lazily, without materializing the whole stack trace
+    private static final StackWalker WALKER =
+            StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    // Loggers cached per calling class
+    private static final ClassValue<Logger> LOGGERS = new ClassValue<>() {
+        @Override
+        protected Logger computeValue(Class<?> type) {
+            return LogManager.getLogger(type);
+        }
+    };
+
+    // Most verbose level accepted by any logger, refreshed whenever Log4j2 is reconfigured
+    private static volatile Level minimumLevel = Level.ALL;
+
+    static {
+        if (LogManager.getContext(false) instanceof LoggerContext context) {
+            minimumLevel = minimumLevel(context.getConfiguration());
+            context.addPropertyChangeListener(event -> {
+                if (event.getNewValue() instanceof Configuration configuration) {
+                    minimumLevel = minimumLevel(configuration);
+                }
+            });
+        }
+    }
+
     private LogsUtil() {
         super();
     }
 
+    /**
+     * Returns the cached logger handle for a class.
+     *
+     * @param type owning class
+     * @return Log4j2 logger supporting parameterized and Supplier-based messages
+     */
+    public static Logger forClass(Class<?> type) {
+        return LOGGERS.get(type);
+    }
+
     private static Logger logger() {
-        return LogManager.getLogger(
-                Thread.currentThread().getStackTrace()[3].getClassName()
-        );
+        return LOGGERS.get(WALKER.walk(frames -> frames
+                .map(StackWalker.StackFrame::getDeclaringClass)
+                .filter(type -> type != LogsUtil.class)
+                .findFirst()
+                .orElse(LogsUtil.class)));
+    }
+
+    // A context-wide filter may accept events below the logger levels, so it disables the shortcut
+    private static Level minimumLevel(Configuration configuration) {
+        if (configuration.hasFilter()) {
+            return Level.ALL;
+        }
+        Level minimum = configuration.getRootLogger().getLevel();
+        for (LoggerConfig loggerConfig : configuration.getLoggers().values()) {
+            Level level = loggerConfig.getLevel();
+            if (level == null || minimum == null) {
+                return Level.ALL;
+            }
+            if (level.isLessSpecificThan(minimum)) {
+                minimum = level;
+            }
+        }
+        return minimum != null ? minimum : Level.ALL;
+    }
+
+    private static void log(Level level, String... message) {
+        if (!level.isMoreSpecificThan(minimumLevel)) {
+            return;
+        }
+        Logger logger = logger();
+        if (logger.isEnabled(level)) {
+            logger.log(level, String.join(" ", message));
+        }
+    }
+
+    private static void log(Level level, Supplier<String> message) {
+        if (!level.isMoreSpecificThan(minimumLevel)) {
+            return;
+        }
+        Logger logger = logger();
+        if (logger.isEnabled(level)) {
+            logger.log(level, message.get());
+        }
+    }
+
+    public static void debug(String... message) {
+        log(Level.DEBUG, message);
+    }
+
+    public static void debug(Supplier<String> message) {
+        log(Level.DEBUG, message);
     }
 
     public static void info(String... message) {
-        logger().info(String.join(" ", message));
+        log(Level.INFO, message);
+    }
+
+    public static void info(Supplier<String> message) {
+        log(Level.INFO, message);
     }
 
     public static void warn(String... message) {
-        logger().warn(String.join(" ", message));
+        log(Level.WARN, message);
+    }
+
+    public static void warn(Supplier<String> message) {
+        log(Level.WARN, message);
     }
 
     public static void error(String... message) {
-        logger().error(String.join(" ", message));
+        log(Level.ERROR, message);
+    }
+
+    public static void error(Supplier<String> message) {
+        log(Level.ERROR, message);
     }
 }
@@ -1,22 +1,17 @@
 package com.swaglabs.utils;
 
-import org.apache.commons.io.FileUtils;
-
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.IOException;
-import java.util.Collection;
 import java.util.Properties;
 
 /**
  * PropertiesUtils
  *
  * Utility class responsible for:
- *  - Loading all .properties files from resources directory
- *  - Merging them into System properties
+ *  - Triggering the one-time load of the {@link FrameworkConfig} snapshot
+ *  - Merging the effective values into System properties
  *  - Providing a centralized way to access configuration values
  *
- * This allows environment-based and flexible configuration management.
+ * Hot paths should prefer the typed accessors of {@link FrameworkConfig}
+ * over re-parsing the string values returned here.
  */
 public class PropertiesUtils {
 
@@ -25,12 +20,9 @@ public class PropertiesUtils {
         super();
     }
 
-    // Base path for all properties files
-    public static final String PROPERTIES_PATH = "src/main/resources/";
-
     /**
-     * Loads all .properties files under the resources directory.
-     * All properties are merged into System properties
+     * Loads and validates the framework configuration from the classpath.
+     * All effective values are merged into System properties
      * so they can be accessed globally across the framework.
      *
      * @return Properties object containing loaded data
@@ -38,26 +30,9 @@ public class PropertiesUtils {
     public static Properties loadProperties() {
         try {
             Properties properties = new Properties();
-
-            // Retrieve all .properties files recursively
-            Collection<File> propertiesFilesList =
-                    FileUtils.listFiles(
-                            new File(PROPERTIES_PATH),
-                            new String[]{"properties"},
-                            true
-                    );
-
-            // Load each properties file
-            propertiesFilesList.forEach(propertyFile -> {
-                try {
-                    properties.load(new FileInputStream(propertyFile));
-                } catch (IOException ioe) {
-                    LogsUtil.error(ioe.getMessage());
-                }
-            });
+            properties.putAll(FrameworkConfig.get().asMap());
 
             // Merge loaded properties with system properties
-            properties.putAll(System.getProperties());
             System.getProperties().putAll(properties);
 
             LogsUtil.info("Properties files loaded successfully");
@@ -71,14 +46,14 @@ public class PropertiesUtils {
 
     /**
      * Retrieves the value of a property by key
-     * from System properties.
+     * from the configuration snapshot.
      *
      * @param key property name
      * @return property value
      */
     public static String getPropertyValue(String key) {
         try {
-            return System.getProperty(key);
+            return FrameworkConfig.get().getString(key);
         } catch (Exception e) {
             LogsUtil.error(e.getMessage());
             return "";
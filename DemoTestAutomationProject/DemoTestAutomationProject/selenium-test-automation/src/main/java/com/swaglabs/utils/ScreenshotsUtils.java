@@ -1,49 +1,131 @@
 package com.swaglabs.utils;
 
-import org.apache.commons.io.FileUtils;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
+import org.testng.ITestResult;
 
-import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * ScreenshotsUtils
  *
  * Utility class for capturing screenshots
  * and attaching them to Allure reports.
+ *
+ * Screenshots are captured in memory on the test thread; saving them
+ * to disk and into the Allure results happens on a background writer
+ * so the next test can start right away.
  */
 public class ScreenshotsUtils {
 
     public static final String SCREENSHOTS_PATH = "test-outputs/screenshots/";
 
+    // Screenshots waiting to be written before the capturing thread writes its own
+    private static final int WRITER_QUEUE_SIZE = 32;
+
+    // Maximum time to wait for pending screenshots at the end of the execution
+    private static final long FLUSH_TIMEOUT_SECONDS = 60;
+
+    // Background writer, replaced by a fresh one every time flush() drains it
+    private static volatile ThreadPoolExecutor writer = newWriter();
+
     private ScreenshotsUtils() {
         super();
     }
 
+    /**
+     * Decides whether a finished test gets a screenshot,
+     * based on the screenshotPolicy property.
+     *
+     * @param status TestNG result status
+     * @return true if a screenshot should be taken
+     */
+    public static boolean shouldCapture(int status) {
+        FrameworkConfig config = FrameworkConfig.get();
+        return switch (config.screenshotPolicy()) {
+            case ALL -> true;
+            case FAILURES -> status == ITestResult.FAILURE;
+            case SAMPLED -> status == ITestResult.FAILURE
+                    || ThreadLocalRandom.current().nextInt(100) < config.screenshotSamplePercent();
+        };
+    }
+
     /**
      * Takes screenshot and attaches it to Allure report.
+     * The attachment is registered on the calling test right away,
+     * its content is written in the background.
      *
      * @param driver WebDriver instance
      * @param screenshotName name of screenshot
      */
     public static void takeScreenshot(WebDriver driver, String screenshotName) {
         try {
-            File screenshot = ((TakesScreenshot) driver)
-                    .getScreenshotAs(OutputType.FILE);
+            byte[] screenshot = ((TakesScreenshot) driver)
+                    .getScreenshotAs(OutputType.BYTES);
 
-            File screenshotFile = new File(
+            Path screenshotFile = Path.of(
                     SCREENSHOTS_PATH + screenshotName + "_" +
                             TimestampUtils.getTimestamp() + ".png"
             );
+            String attachmentSource = AllureUtils.prepareScreenshotAttachment(screenshotName);
 
-            FileUtils.copyFile(screenshot, screenshotFile);
-            AllureUtils.attachScreenshotToAllure(
-                    screenshotName, screenshotFile.getPath()
-            );
+            writer.execute(() -> write(screenshot, screenshotFile, attachmentSource));
 
         } catch (Exception e) {
             LogsUtil.error("Failed to take screenshot: " + e.getMessage());
         }
     }
+
+    /**
+     * Waits for all pending screenshots to be written.
+     * Called when an execution finishes; screenshots taken afterwards,
+     * e.g. by another execution in the same JVM, go to a new writer.
+     */
+    public static synchronized void flush() {
+        ThreadPoolExecutor finished = writer;
+        writer = newWriter();
+        finished.shutdown();
+        try {
+            if (!finished.awaitTermination(FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                LogsUtil.warn("Timed out waiting for " + finished.getQueue().size() + " screenshots to be written");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LogsUtil.error("Interrupted while writing screenshots: " + e.getMessage());
+        }
+    }
+
+    /*
+     * When the queue is full, or the writer was just shut down by flush(),
+     * the test thread writes the screenshot itself: this bounds memory usage
+     * and never drops a screenshot.
+     */
+    private static ThreadPoolExecutor newWriter() {
+        return new ThreadPoolExecutor(
+                2, 2, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(WRITER_QUEUE_SIZE),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "screenshot-writer");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (task, executor) -> task.run()
+        );
+    }
+
+    private static void write(byte[] screenshot, Path screenshotFile, String attachmentSource) {
+        AllureUtils.writeAttachment(attachmentSource, screenshot);
+        try {
+            Files.createDirectories(screenshotFile.getParent());
+            Files.write(screenshotFile, screenshot);
+        } catch (Exception e) {
+            LogsUtil.error("Failed to save screenshot " + screenshotFile + ": " + e.getMessage());
+        }
+    }
 }
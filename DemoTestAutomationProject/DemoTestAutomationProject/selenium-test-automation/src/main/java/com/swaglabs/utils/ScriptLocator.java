@@ -0,0 +1,79 @@
+package com.swaglabs.utils;
+
+import org.openqa.selenium.By;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * ScriptLocator
+ *
+ * Translates Selenium locators into a form that injected JavaScript
+ * can resolve inside the page, so several lookups can be combined
+ * into a single executeScript call.
+ *
+ * Relative locators are not supported and must be resolved through WebDriver.
+ */
+public final class ScriptLocator {
+
+    // Locator strategies the FIND_FUNCTION script knows how to resolve
+    private static final Set<String> SUPPORTED = Set.of(
+            "id", "name", "class name", "tag name", "css selector", "xpath", "link text", "partial link text"
+    );
+
+    /*
+     * JavaScript helpers prepended to scripts that resolve locators in the page:
+     *  - find(locator)      returns the first matching element or null
+     *  - isVisible(element) mirrors WebDriver's basic displayed check
+     */
+    public static final String FUNCTIONS = """
+            function find(locator) {
+                var value = locator.value;
+                switch (locator.using) {
+                    case 'id': return document.getElementById(value);
+                    case 'name': return document.querySelector('[name="' + CSS.escape(value) + '"]');
+                    case 'class name': return document.getElementsByClassName(value)[0] || null;
+                    case 'tag name': return document.getElementsByTagName(value)[0] || null;
+                    case 'css selector': return document.querySelector(value);
+                    case 'xpath': return document.evaluate(value, document, null,
+                            XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;
+                    default:
+                        var links = document.getElementsByTagName('a');
+                        for (var i = 0; i < links.length; i++) {
+                            var text = links[i].innerText.trim();
+                            if (locator.using === 'link text' ? text === value : text.indexOf(value) >= 0) {
+                                return links[i];
+                            }
+                        }
+                        return null;
+                }
+            }
+            function isVisible(element) {
+                var rect = element.getBoundingClientRect();
+                var style = window.getComputedStyle(element);
+                return rect.width > 0 && rect.height > 0
+                        && style.visibility !== 'hidden' && style.display !== 'none';
+            }
+            """;
+
+    private ScriptLocator() {
+        super();
+    }
+
+    /**
+     * Converts a locator into a script argument.
+     *
+     * @param locator Selenium locator
+     * @return map with "using" and "value" keys, or null if the locator cannot be resolved in JavaScript
+     */
+    public static Map<String, Object> of(By locator) {
+        if (!(locator instanceof By.Remotable remotable)) {
+            return null;
+        }
+        By.Remotable.Parameters parameters = remotable.getRemoteParameters();
+        if (!SUPPORTED.contains(parameters.using()) || !(parameters.value() instanceof String value)) {
+            return null;
+        }
+        return Map.of("using", parameters.using(), "value", value);
+    }
+}
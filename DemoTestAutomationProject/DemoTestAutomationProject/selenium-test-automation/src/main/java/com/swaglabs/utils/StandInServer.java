@@ -0,0 +1,151 @@
+package com.swaglabs.utils;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * StandInServer
+ *
+ * Embedded HTTP server hosting a stand-in copy of the Swag Labs application
+ * (login, inventory, cart, checkout and confirmation pages) with the same
+ * ids and data-test attributes used by the page objects.
+ *
+ * All responses are prepared in memory when the server starts, so requests
+ * are answered without any disk or network access. Enabled through
+ * applicationTarget=StandIn in environment.properties.
+ */
+public class StandInServer {
+
+    // Classpath folder holding the stand-in application
+    private static final String RESOURCES_PATH = "stand-in/";
+
+    // Application paths and the page rendered by each of them
+    private static final Map<String, String> PAGES = Map.of(
+            "/", "login",
+            "/index.html", "login",
+            "/inventory.html", "inventory",
+            "/inventory-item.html", "inventory-item",
+            "/cart.html", "cart",
+            "/checkout-step-one.html", "checkout-step-one",
+            "/checkout-step-two.html", "checkout-step-two",
+            "/checkout-complete.html", "checkout-complete"
+    );
+
+    private static HttpServer server;
+    private static ExecutorService executor;
+
+    private StandInServer() {
+        super();
+    }
+
+    /**
+     * Starts the server on localhost if it is not running yet.
+     *
+     * @param port port to listen on
+     */
+    public static synchronized void start(int port) {
+        if (server != null) {
+            return;
+        }
+        try {
+            Map<String, Response> responses = loadResponses();
+
+            server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+            server.createContext("/", exchange -> respond(exchange, responses));
+            executor = Executors.newFixedThreadPool(4, runnable -> {
+                Thread thread = new Thread(runnable, "stand-in-server");
+                thread.setDaemon(true);
+                return thread;
+            });
+            server.setExecutor(executor);
+            server.start();
+
+            LogsUtil.info("Stand-in application started on http://localhost:" + port + "/");
+        } catch (IOException e) {
+            server = null;
+            throw new IllegalStateException("Failed to start stand-in application on port " + port, e);
+        }
+    }
+
+    /**
+     * Stops the server if it is running.
+     */
+    public static synchronized void stop() {
+        if (server == null) {
+            return;
+        }
+        server.stop(0);
+        executor.shutdownNow();
+        server = null;
+        executor = null;
+        LogsUtil.info("Stand-in application stopped");
+    }
+
+    public static synchronized boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * Builds every response once: one HTML shell per page plus the shared script and stylesheet.
+     */
+    private static Map<String, Response> loadResponses() throws IOException {
+        Map<String, Response> responses = new HashMap<>();
+        String shell = readResource("shell.html");
+        PAGES.forEach((path, page) -> responses.put(path,
+                new Response("text/html; charset=utf-8", shell.replace("{{page}}", page))));
+        responses.put("/static/app.js",
+                new Response("application/javascript; charset=utf-8", readResource("static/app.js")));
+        responses.put("/static/app.css",
+                new Response("text/css; charset=utf-8", readResource("static/app.css")));
+        return responses;
+    }
+
+    private static String readResource(String name) throws IOException {
+        try (InputStream stream = StandInServer.class.getClassLoader()
+                .getResourceAsStream(RESOURCES_PATH + name)) {
+            if (stream == null) {
+                throw new IOException("Stand-in resource not found: " + RESOURCES_PATH + name);
+            }
+            return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, Map<String, Response> responses) throws IOException {
+        try (exchange) {
+            Response response = responses.get(exchange.getRequestURI().getPath());
+            if (response == null) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", response.contentType);
+            exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+            exchange.sendResponseHeaders(200, response.body.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(response.body);
+            }
+        }
+    }
+
+    /**
+     * Prepared response body and its content type.
+     */
+    private static class Response {
+        private final String contentType;
+        private final byte[] body;
+
+        private Response(String contentType, String body) {
+            this.contentType = contentType;
+            this.body = body.getBytes(StandardCharsets.UTF_8);
+        }
+    }
+}
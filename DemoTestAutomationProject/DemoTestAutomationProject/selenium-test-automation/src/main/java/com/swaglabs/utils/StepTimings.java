@@ -0,0 +1,248 @@
+package com.swaglabs.utils;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * StepTimings
+ *
+ * Collects wall time of every @Step method as nested spans per thread,
+ * grouped under the test or configuration method that ran them.
+ * Handles:
+ *  - Opening and closing spans (driven by StepTimingAspect and TestNGListeners)
+ *  - Writing one timing tree per test invocation to step-timings.txt
+ *  - Aggregating self time per call stack in collapsed-stack format
+ *    (step-timings.collapsed), ready for flame graph tools
+ *  - Listing a per page object / per step summary in the Allure report
+ *
+ * Example tree:
+ * <pre>
+ * UserFlowTC.userFlow  4210.7 ms
+ *   InformationPage.fillInformationForm  612.4 ms
+ *     ElementActions.type x3  598.0 ms
+ * </pre>
+ */
+public class StepTimings {
+
+    // Folder where the step timings are exported
+    public static final String METRICS_PATH = "test-outputs/metrics/";
+
+    // Rows per table in the execution summary
+    private static final int SUMMARY_ROWS = 20;
+
+    // Innermost open span of the current thread
+    private static final ThreadLocal<Span> current = new ThreadLocal<>();
+
+    // Self time in microseconds per "root;step;step" stack
+    private static final Map<String, LongAdder> collapsed = new ConcurrentHashMap<>();
+
+    // Receives the timing tree of each finished invocation
+    private static BufferedWriter treeWriter;
+
+    private StepTimings() {
+        super();
+    }
+
+    /**
+     * Opens the root span of a test or configuration method,
+     * discarding anything left open by a previous invocation.
+     *
+     * @param name e.g. "UserFlowTC.userFlow"
+     */
+    public static void startTest(String name) {
+        current.set(new Span(name, null));
+    }
+
+    /**
+     * Closes the root span of the current invocation and records its tree.
+     */
+    public static void finishTest() {
+        Span span = current.get();
+        if (span == null) {
+            return;
+        }
+        current.remove();
+        while (span.parent != null) {
+            span.finish();
+            span = span.parent;
+        }
+        span.finish();
+        record(span);
+    }
+
+    /**
+     * Opens a step span below the current one.
+     *
+     * @param name e.g. "LoginPage.enterUsername"
+     */
+    public static void enter(String name) {
+        current.set(new Span(name, current.get()));
+    }
+
+    /**
+     * Closes the innermost step span. A step without an enclosing
+     * test is recorded as its own tree.
+     */
+    public static void exit() {
+        Span span = current.get();
+        if (span == null) {
+            return;
+        }
+        span.finish();
+        if (span.parent == null) {
+            current.remove();
+            record(span);
+        } else {
+            current.set(span.parent);
+        }
+    }
+
+    /**
+     * Writes the collapsed stacks, closes the tree file and lists
+     * both with a summary in the Allure report.
+     * Does nothing if no step was recorded.
+     */
+    public static synchronized void export() {
+        if (treeWriter == null) {
+            return;
+        }
+        try {
+            treeWriter.close();
+            treeWriter = null;
+
+            StringBuilder stacks = new StringBuilder();
+            collapsedStacks().forEach((stack, micros) -> stacks.append(stack).append(' ').append(micros).append('\n'));
+            Path folder = Path.of(METRICS_PATH);
+            Path collapsedFile = Files.writeString(folder.resolve("step-timings.collapsed"), stacks);
+
+            AllureUtils.addExecutionSummary("Step time summary", summary(),
+                    folder.resolve("step-timings.txt"), collapsedFile);
+            LogsUtil.info("Step timings exported to " + folder);
+        } catch (IOException e) {
+            LogsUtil.error("Failed to export step timings: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the self time in microseconds recorded so far
+     * per call stack, frames separated by ';'.
+     */
+    public static Map<String, Long> collapsedStacks() {
+        Map<String, Long> stacks = new TreeMap<>();
+        collapsed.forEach((stack, micros) -> stacks.put(stack, micros.sum()));
+        return stacks;
+    }
+
+    private static void record(Span root) {
+        collapse(root, root.name);
+
+        StringBuilder tree = new StringBuilder();
+        render(List.of(root), 0, tree);
+        appendTree(tree.append('\n').toString());
+    }
+
+    private static void collapse(Span span, String stack) {
+        long childNanos = 0;
+        for (Span child : span.children) {
+            childNanos += child.durationNanos;
+            collapse(child, stack + ";" + child.name);
+        }
+        long selfMicros = Math.max(0, span.durationNanos - childNanos) / 1_000;
+        collapsed.computeIfAbsent(stack, key -> new LongAdder()).add(selfMicros);
+    }
+
+    /**
+     * Renders sibling spans, merging repeated calls of the same step.
+     */
+    private static void render(List<Span> spans, int depth, StringBuilder tree) {
+        Map<String, List<Span>> byName = new LinkedHashMap<>();
+        spans.forEach(span -> byName.computeIfAbsent(span.name, name -> new ArrayList<>()).add(span));
+
+        byName.forEach((name, calls) -> {
+            long nanos = 0;
+            List<Span> children = new ArrayList<>();
+            for (Span call : calls) {
+                nanos += call.durationNanos;
+                children.addAll(call.children);
+            }
+            tree.append("  ".repeat(depth)).append(name)
+                    .append(calls.size() > 1 ? " x" + calls.size() : "")
+                    .append(String.format(Locale.ROOT, "  %.1f ms%n", nanos / 1_000_000.0));
+            render(children, depth + 1, tree);
+        });
+    }
+
+    private static synchronized void appendTree(String tree) {
+        try {
+            if (treeWriter == null) {
+                treeWriter = Files.newBufferedWriter(
+                        Files.createDirectories(Path.of(METRICS_PATH)).resolve("step-timings.txt"));
+            }
+            treeWriter.write(tree);
+        } catch (IOException e) {
+            LogsUtil.error("Failed to write step timings: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Self time per page object and per step, largest first.
+     */
+    private static String summary() {
+        Map<String, Long> byClass = new HashMap<>();
+        Map<String, Long> byStep = new HashMap<>();
+        collapsedStacks().forEach((stack, micros) -> {
+            String step = stack.substring(stack.lastIndexOf(';') + 1);
+            int dot = step.lastIndexOf('.');
+            String owner = dot > 0 ? step.substring(0, dot) : step;
+            byClass.merge(owner, micros, Long::sum);
+            byStep.merge(step, micros, Long::sum);
+        });
+        return table("Self time per class", byClass) + "\n" + table("Self time per step", byStep);
+    }
+
+    private static String table(String title, Map<String, Long> micros) {
+        StringBuilder text = new StringBuilder(title).append('\n');
+        micros.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(SUMMARY_ROWS)
+                .forEach(entry -> text.append(String.format(Locale.ROOT, "%12.1f ms  %s%n",
+                        entry.getValue() / 1_000.0, entry.getKey())));
+        return text.toString();
+    }
+
+    /**
+     * One timed call with its nested calls.
+     */
+    private static final class Span {
+        private final String name;
+        private final Span parent;
+        private final List<Span> children = new ArrayList<>(4);
+        private final long startNanos = System.nanoTime();
+        private long durationNanos = -1;
+
+        private Span(String name, Span parent) {
+            this.name = name;
+            this.parent = parent;
+            if (parent != null) {
+                parent.children.add(this);
+            }
+        }
+
+        private void finish() {
+            if (durationNanos < 0) {
+                durationNanos = System.nanoTime() - startNanos;
+            }
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.swaglabs.utils;
+
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.Core;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginAttribute;
+import org.apache.logging.log4j.core.config.plugins.PluginElement;
+import org.apache.logging.log4j.core.config.plugins.PluginFactory;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+
+import java.io.Serializable;
+import java.util.ArrayDeque;
+
+/**
+ * TestLogAppender
+ *
+ * Log4j2 appender keeping the log lines of the test running on each thread
+ * in a bounded in-memory ring buffer, so the report gets only that test's
+ * logs instead of the whole log file.
+ * Handles:
+ *  - Formatting events with the configured layout
+ *  - Dropping the oldest lines once maxEvents is reached
+ *  - Handing off and clearing the current thread's lines through {@link #drain()}
+ *
+ * Only threads marked with {@link #capture()} keep lines: background threads
+ * (pool pre-warm, screenshot writer) are never drained, so their lines only
+ * go to the other appenders.
+ *
+ * Declared as the "TestLog" appender type in log4j2.properties.
+ */
+@Plugin(name = "TestLog", category = Core.CATEGORY_NAME, elementType = Appender.ELEMENT_TYPE)
+public final class TestLogAppender extends AbstractAppender {
+
+    // Default number of lines kept per thread
+    private static final int DEFAULT_MAX_EVENTS = 2000;
+
+    // Lines kept per thread, taken from the configured appender
+    private static volatile int maxEvents = DEFAULT_MAX_EVENTS;
+
+    // Lines logged by the test running on the current thread, unset on threads running no test
+    private static final ThreadLocal<LogBuffer> buffer = new ThreadLocal<>();
+
+    private TestLogAppender(String name, Filter filter, Layout<? extends Serializable> layout) {
+        super(name, filter, layout, true, Property.EMPTY_ARRAY);
+    }
+
+    @PluginFactory
+    public static TestLogAppender createAppender(
+            @PluginAttribute("name") String name,
+            @PluginAttribute(value = "maxEvents", defaultInt = DEFAULT_MAX_EVENTS) int maxEvents,
+            @PluginElement("Layout") Layout<? extends Serializable> layout,
+            @PluginElement("Filter") Filter filter) {
+        TestLogAppender.maxEvents = Math.max(1, maxEvents);
+        return new TestLogAppender(
+                name,
+                filter,
+                layout != null ? layout : PatternLayout.createDefaultLayout()
+        );
+    }
+
+    @Override
+    public void append(LogEvent event) {
+        LogBuffer lines = buffer.get();
+        if (lines != null) {
+            lines.add(getLayout().toSerializable(event).toString());
+        }
+    }
+
+    /**
+     * Starts keeping the lines logged on the current thread, if not already.
+     * Called before every test and configuration method.
+     */
+    public static void capture() {
+        if (buffer.get() == null) {
+            buffer.set(new LogBuffer(maxEvents));
+        }
+    }
+
+    /**
+     * Returns the lines logged on the current thread since the last call
+     * and starts a new, empty buffer.
+     *
+     * @return captured log lines, empty if nothing was logged or the thread is not captured
+     */
+    public static String drain() {
+        LogBuffer captured = buffer.get();
+        if (captured == null) {
+            return "";
+        }
+        buffer.set(new LogBuffer(maxEvents));
+        return captured.toString();
+    }
+
+    /**
+     * Fixed-size buffer overwriting its oldest line when full.
+     */
+    private static final class LogBuffer {
+        private final int capacity;
+        private final ArrayDeque<String> lines;
+        private long dropped;
+
+        private LogBuffer(int capacity) {
+            this.capacity = capacity;
+            this.lines = new ArrayDeque<>(Math.min(capacity, 256));
+        }
+
+        private void add(String line) {
+            if (lines.size() == capacity) {
+                lines.pollFirst();
+                dropped++;
+            }
+            lines.addLast(line);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder text = new StringBuilder();
+            if (dropped > 0) {
+                text.append("... ").append(dropped).append(" earlier log lines dropped ...")
+                        .append(System.lineSeparator());
+            }
+            lines.forEach(text::append);
+            return text.toString();
+        }
+    }
+}
@@ -29,8 +29,18 @@ public class Validations {
      * @param driver WebDriver instance
      */
     public Validations(WebDriver driver) {
+        this(driver, new BrowserActions(driver));
+    }
+
+    /**
+     * Constructor reusing existing browser-level action helpers.
+     *
+     * @param driver         WebDriver instance
+     * @param browserActions browser actions bound to the same driver
+     */
+    public Validations(WebDriver driver, BrowserActions browserActions) {
         this.driver = driver;
-        this.browserActions = new BrowserActions(driver);
+        this.browserActions = browserActions;
     }
 
     /**
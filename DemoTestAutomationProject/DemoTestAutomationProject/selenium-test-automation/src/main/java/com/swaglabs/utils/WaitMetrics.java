@@ -0,0 +1,202 @@
+package com.swaglabs.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * WaitMetrics
+ *
+ * Thread-safe registry of element wait durations, grouped by
+ * wait condition and locator.
+ * Handles:
+ *  - Recording each wait's elapsed time and outcome (satisfied / timed out)
+ *  - Computing p50 / p90 / p99 / max per locator
+ *  - Exporting the results as JSON and CSV with a summary listed in the Allure report
+ *
+ * Recording only increments counters in a fixed set of log-scaled buckets
+ * (within about 3% of the real value), so it adds no allocation per wait.
+ */
+public class WaitMetrics {
+
+    // Folder where the wait metrics are exported
+    public static final String METRICS_PATH = "test-outputs/metrics/";
+
+    // Locators shown in the execution summary, slowest p90 first
+    private static final int SUMMARY_ROWS = 20;
+
+    // Histogram per "condition locator" key
+    private static final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+
+    private WaitMetrics() {
+        super();
+    }
+
+    /**
+     * Records one finished wait.
+     *
+     * @param condition    waited condition, e.g. "visible"
+     * @param locator      element locator
+     * @param elapsedNanos time spent waiting
+     * @param satisfied    false if the wait timed out
+     */
+    public static void record(String condition, By locator, long elapsedNanos, boolean satisfied) {
+        histograms.computeIfAbsent(condition + " " + locator, key -> new Histogram(condition, String.valueOf(locator)))
+                .record(elapsedNanos / 1_000, satisfied);
+    }
+
+    /**
+     * Writes wait-metrics.json and wait-metrics.csv and lists them
+     * with a summary of the slowest locators in the Allure report.
+     * Does nothing if no wait was recorded.
+     */
+    public static void export() {
+        List<Map<String, Object>> rows = snapshot();
+        if (rows.isEmpty()) {
+            return;
+        }
+        try {
+            Path folder = Files.createDirectories(Path.of(METRICS_PATH));
+            Path json = Files.writeString(folder.resolve("wait-metrics.json"), new Json().toJson(rows));
+            Path csv = Files.writeString(folder.resolve("wait-metrics.csv"), toCsv(rows));
+
+            AllureUtils.addExecutionSummary("Wait time summary", summary(rows), json, csv);
+            LogsUtil.info("Wait metrics exported to " + folder);
+        } catch (IOException e) {
+            LogsUtil.error("Failed to export wait metrics: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns one row per condition and locator, slowest p90 first.
+     */
+    private static List<Map<String, Object>> snapshot() {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        histograms.values().forEach(histogram -> rows.add(histogram.toRow()));
+        rows.sort(Comparator.comparingDouble((Map<String, Object> row) -> (double) row.get("p90Ms")).reversed());
+        return rows;
+    }
+
+    private static String toCsv(List<Map<String, Object>> rows) {
+        StringBuilder csv = new StringBuilder(String.join(",", rows.get(0).keySet())).append('\n');
+        for (Map<String, Object> row : rows) {
+            List<String> cells = new ArrayList<>();
+            row.values().forEach(value -> cells.add(
+                    value instanceof String text ? '"' + text.replace("\"", "\"\"") + '"' : String.valueOf(value)));
+            csv.append(String.join(",", cells)).append('\n');
+        }
+        return csv.toString();
+    }
+
+    private static String summary(List<Map<String, Object>> rows) {
+        StringBuilder text = new StringBuilder(String.format(Locale.ROOT, "%-10s %7s %7s %9s %9s %9s %9s  %s%n",
+                "condition", "waits", "timeouts", "p50 ms", "p90 ms", "p99 ms", "max ms", "locator"));
+        rows.stream().limit(SUMMARY_ROWS).forEach(row -> text.append(String.format(Locale.ROOT,
+                "%-10s %7d %7d %9.1f %9.1f %9.1f %9.1f  %s%n",
+                row.get("condition"), row.get("count"), row.get("timeouts"),
+                row.get("p50Ms"), row.get("p90Ms"), row.get("p99Ms"), row.get("maxMs"), row.get("locator"))));
+        if (rows.size() > SUMMARY_ROWS) {
+            text.append("... ").append(rows.size() - SUMMARY_ROWS).append(" more in wait-metrics.csv\n");
+        }
+        return text.toString();
+    }
+
+    /**
+     * Lock-free histogram over microsecond durations.
+     * Values below 32 get their own bucket; above that every power of two
+     * is split into 16 buckets.
+     */
+    private static final class Histogram {
+        private static final int LINEAR_BUCKETS = 32;
+        private static final int SUB_BUCKETS = 16;
+        private static final int BUCKETS = LINEAR_BUCKETS + (63 - 5) * SUB_BUCKETS;
+
+        private final String condition;
+        private final String locator;
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+        private final LongAdder count = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+        private final LongAdder totalMicros = new LongAdder();
+        private final LongAccumulator maxMicros = new LongAccumulator(Math::max, 0);
+
+        private Histogram(String condition, String locator) {
+            this.condition = condition;
+            this.locator = locator;
+        }
+
+        private void record(long micros, boolean satisfied) {
+            long value = Math.max(0, micros);
+            buckets.incrementAndGet(bucketOf(value));
+            count.increment();
+            totalMicros.add(value);
+            maxMicros.accumulate(value);
+            if (!satisfied) {
+                timeouts.increment();
+            }
+        }
+
+        private static int bucketOf(long micros) {
+            if (micros < LINEAR_BUCKETS) {
+                return (int) micros;
+            }
+            int exponent = 63 - Long.numberOfLeadingZeros(micros);
+            int subBucket = (int) (micros >>> (exponent - 4)) & (SUB_BUCKETS - 1);
+            return LINEAR_BUCKETS + (exponent - 5) * SUB_BUCKETS + subBucket;
+        }
+
+        // Midpoint of the values falling into a bucket
+        private static double valueOf(int bucket) {
+            if (bucket < LINEAR_BUCKETS) {
+                return bucket;
+            }
+            int exponent = (bucket - LINEAR_BUCKETS) / SUB_BUCKETS + 5;
+            int subBucket = (bucket - LINEAR_BUCKETS) % SUB_BUCKETS;
+            long width = 1L << (exponent - 4);
+            return (SUB_BUCKETS + subBucket) * width + width / 2.0;
+        }
+
+        private double percentileMicros(long total, double percentile) {
+            long rank = Math.max(1, (long) Math.ceil(total * percentile));
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += buckets.get(i);
+                if (seen >= rank) {
+                    return Math.min(valueOf(i), maxMicros.get());
+                }
+            }
+            return maxMicros.get();
+        }
+
+        private Map<String, Object> toRow() {
+            long total = count.sum();
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("condition", condition);
+            row.put("locator", locator);
+            row.put("count", total);
+            row.put("timeouts", timeouts.sum());
+            row.put("meanMs", millis(total == 0 ? 0 : (double) totalMicros.sum() / total));
+            row.put("p50Ms", millis(percentileMicros(total, 0.50)));
+            row.put("p90Ms", millis(percentileMicros(total, 0.90)));
+            row.put("p99Ms", millis(percentileMicros(total, 0.99)));
+            row.put("maxMs", millis(maxMicros.get()));
+            return row;
+        }
+
+        private static double millis(double micros) {
+            return Math.round(micros / 100.0) / 10.0;
+        }
+    }
+}
@@ -1,26 +1,94 @@
 package com.swaglabs.utils;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.InvalidSelectorException;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.FluentWait;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
-
-import static com.swaglabs.utils.PropertiesUtils.getPropertyValue;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Waits
  *
  * Explicit and Fluent wait utilities.
  * Centralizes all synchronization logic to avoid flaky tests.
+ *
+ * With waitStrategy=Event, element waits run inside the browser:
+ * a single executeAsyncScript call watches the page with a MutationObserver
+ * and returns as soon as the element meets the condition, instead of
+ * one WebDriver round-trip per poll.
  */
 public class Waits {
 
+    /*
+     * Resolves with the element once it meets the condition, or with null
+     * when the in-browser timeout expires. Besides DOM mutations, the
+     * condition is re-checked every 50ms in the page to catch purely
+     * visual changes such as stylesheets or transitions.
+     * Arguments: locator, condition (present | visible | clickable), timeout in ms.
+     */
+    private static final String EVENT_WAIT_SCRIPT = ScriptLocator.FUNCTIONS + """
+            var locator = arguments[0], condition = arguments[1], timeout = arguments[2];
+            var done = arguments[arguments.length - 1];
+            function match() {
+                var element = find(locator);
+                if (!element || condition === 'present') {
+                    return element;
+                }
+                if (!isVisible(element) || (condition === 'clickable' && element.disabled)) {
+                    return null;
+                }
+                return element;
+            }
+            var found = match();
+            if (found) {
+                done(found);
+                return;
+            }
+            var finished = false, observer, interval, timer;
+            function finish(result) {
+                if (finished) {
+                    return;
+                }
+                finished = true;
+                observer.disconnect();
+                clearInterval(interval);
+                clearTimeout(timer);
+                done(result);
+            }
+            function check() {
+                var element = match();
+                if (element) {
+                    finish(element);
+                }
+            }
+            observer = new MutationObserver(check);
+            observer.observe(document.documentElement,
+                    {childList: true, subtree: true, attributes: true, characterData: true});
+            interval = setInterval(check, 50);
+            timer = setTimeout(function () { finish(null); }, timeout);
+            """;
+
+    // Longest single in-browser wait, kept below WebDriver's default 30s script timeout
+    private static final long MAX_EVENT_WAIT_MILLIS = 10_000;
+
+    // Restarts allowed after the page navigated mid-wait, and the pause before each one
+    private static final int MAX_NAVIGATION_RESTARTS = 5;
+    private static final long NAVIGATION_BACKOFF_MILLIS = 100;
+
     private final WebDriver driver;
     private final WebDriverWait wait;
+    private final boolean eventWaits;
 
     /**
      * Initializes wait handlers using configured explicit wait time.
@@ -28,17 +96,24 @@ public class Waits {
      * @param driver WebDriver instance
      */
     public Waits(WebDriver driver) {
+        this(driver, FrameworkConfig.get().waitStrategy());
+    }
+
+    /**
+     * Initializes wait handlers with the given strategy instead of the configured one.
+     *
+     * @param driver   WebDriver instance
+     * @param strategy how element waits are performed
+     */
+    Waits(WebDriver driver, FrameworkConfig.WaitStrategy strategy) {
         if (driver == null) {
             throw new IllegalStateException("WebDriver is null in Waits");
         }
 
         this.driver = driver;
-        this.wait = new WebDriverWait(
-                driver,
-                Duration.ofSeconds(
-                        Integer.parseInt(getPropertyValue("explicitWait"))
-                )
-        );
+        this.wait = new WebDriverWait(driver, FrameworkConfig.get().explicitWait());
+        this.eventWaits = strategy == FrameworkConfig.WaitStrategy.EVENT
+                && driver instanceof JavascriptExecutor;
     }
 
     /**
@@ -49,7 +124,7 @@ public class Waits {
      */
     public WebElement waitForElementPresent(By locator) {
         LogsUtil.info("Waiting for element to be present: " + locator);
-        return wait.until(
+        return waitFor(locator, "present",
                 ExpectedConditions.presenceOfElementLocated(locator)
         );
     }
@@ -62,7 +137,7 @@ public class Waits {
      */
     public WebElement waitForElementVisible(By locator) {
         LogsUtil.info("Waiting for element to be visible: " + locator);
-        return wait.until(
+        return waitFor(locator, "visible",
                 ExpectedConditions.visibilityOfElementLocated(locator)
         );
     }
@@ -75,7 +150,7 @@ public class Waits {
      */
     public WebElement waitForElementClickable(By locator) {
         LogsUtil.info("Waiting for element to be clickable: " + locator);
-        return wait.until(
+        return waitFor(locator, "clickable",
                 ExpectedConditions.elementToBeClickable(locator)
         );
     }
@@ -87,12 +162,91 @@ public class Waits {
      */
     public FluentWait<WebDriver> synchronize() {
         return new FluentWait<>(driver)
-                .withTimeout(
-                        Duration.ofSeconds(
-                                Integer.parseInt(getPropertyValue("explicitWait"))
-                        )
-                )
+                .withTimeout(FrameworkConfig.get().explicitWait())
                 .pollingEvery(Duration.ofMillis(100))
                 .ignoring(Exception.class);
     }
+
+    /**
+     * Waits in the browser when possible, otherwise polls through WebDriverWait.
+     */
+    private WebElement waitFor(By locator, String condition, ExpectedCondition<WebElement> pollingCondition) {
+        long start = System.nanoTime();
+        try {
+            WebElement element = waitUntil(locator, condition, pollingCondition);
+            recordWait(locator, condition, start, true);
+            return element;
+        } catch (TimeoutException e) {
+            recordWait(locator, condition, start, false);
+            throw e;
+        }
+    }
+
+    private static void recordWait(By locator, String condition, long start, boolean satisfied) {
+        long elapsed = System.nanoTime() - start;
+        WaitMetrics.record(condition, locator, elapsed, satisfied);
+        LogsUtil.debug(() -> "Element " + (satisfied ? "" : "not ") + condition + " after "
+                + TimeUnit.NANOSECONDS.toMillis(elapsed) + " ms: " + locator);
+    }
+
+    private WebElement waitUntil(By locator, String condition, ExpectedCondition<WebElement> pollingCondition) {
+        Map<String, Object> scriptLocator = eventWaits ? ScriptLocator.of(locator) : null;
+        if (scriptLocator == null) {
+            return wait.until(pollingCondition);
+        }
+
+        Duration timeout = FrameworkConfig.get().explicitWait();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        long remaining;
+        int restarts = 0;
+        while ((remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())) > 0) {
+            try {
+                Object result = ((JavascriptExecutor) driver).executeAsyncScript(
+                        EVENT_WAIT_SCRIPT, scriptLocator, condition, Math.min(remaining, MAX_EVENT_WAIT_MILLIS));
+                if (result instanceof WebElement element) {
+                    return element;
+                }
+            } catch (ScriptTimeoutException e) {
+                // Script timeout configured below our wait: poll for the time the script left
+                long left = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (left <= 0) {
+                    break;
+                }
+                return new WebDriverWait(driver, Duration.ofMillis(left)).until(pollingCondition);
+            } catch (JavascriptException e) {
+                if (!isNavigation(e) || ++restarts > MAX_NAVIGATION_RESTARTS) {
+                    throw scriptError(locator, e);
+                }
+                // The page navigated while waiting: watch the new document once it has loaded
+                LogsUtil.debug(() -> "Event wait restarted after navigation: " + e.getRawMessage());
+                sleep(Math.min(NAVIGATION_BACKOFF_MILLIS, remaining));
+            }
+        }
+        throw new TimeoutException("Expected condition failed: waiting for element to be " + condition
+                + " located by " + locator + " (tried for " + timeout.toSeconds() + " second(s))");
+    }
+
+    // Browsers report a wait cut short by navigation as a script error about the unloaded document
+    private static boolean isNavigation(JavascriptException e) {
+        String message = String.valueOf(e.getRawMessage()).toLowerCase();
+        return message.contains("unload") || message.contains("navigat")
+                || message.contains("context was destroyed") || message.contains("context was discarded");
+    }
+
+    // querySelector and evaluate reject a malformed locator on every call, so surface it at once
+    private static RuntimeException scriptError(By locator, JavascriptException e) {
+        String message = String.valueOf(e.getRawMessage());
+        if (message.contains("SyntaxError") || message.contains("not a valid")) {
+            return new InvalidSelectorException("Invalid locator " + locator + ": " + message, e);
+        }
+        return e;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
 }
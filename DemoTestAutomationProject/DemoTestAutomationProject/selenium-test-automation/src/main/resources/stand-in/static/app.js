@@ -0,0 +1,506 @@
+/*
+ * Stand-in Swag Labs application.
+ *
+ * Renders the page named by <body data-page> with the same ids, classes and
+ * data-test attributes as https://www.saucedemo.com, and keeps state the same
+ * way: the logged-in user in the "session-username" cookie and the cart as a
+ * JSON array of product ids in localStorage["cart-contents"].
+ */
+(function () {
+    'use strict';
+
+    var PASSWORD = 'secret_sauce';
+    var USERS = ['standard_user', 'locked_out_user', 'problem_user',
+        'performance_glitch_user', 'error_user', 'visual_user'];
+    var SESSION_COOKIE = 'session-username';
+    var CART_KEY = 'cart-contents';
+    var LOGIN_ERROR_KEY = 'stand-in-login-error';
+    var TAX_RATE = 0.08;
+
+    var PRODUCTS = [
+        {id: 4, name: 'Sauce Labs Backpack', price: 29.99,
+            desc: 'carry.allTheThings() with the sleek, streamlined Sly Pack that melds uncompromising style with unequaled laptop and tablet protection.'},
+        {id: 0, name: 'Sauce Labs Bike Light', price: 9.99,
+            desc: 'A red light isn\'t the desired state in testing but it sure helps when riding your bike at night. Water-resistant with 3 lighting modes, 1 AAA battery included.'},
+        {id: 1, name: 'Sauce Labs Bolt T-Shirt', price: 15.99,
+            desc: 'Get your testing superhero on with the Sauce Labs bolt T-shirt. From American Apparel, 100% ringspun combed cotton, heather gray with red bolt.'},
+        {id: 5, name: 'Sauce Labs Fleece Jacket', price: 49.99,
+            desc: 'It\'s not every day that you come across a midweight quarter-zip fleece jacket capable of handling everything from a relaxing day outdoors to a busy day at the office.'},
+        {id: 2, name: 'Sauce Labs Onesie', price: 7.99,
+            desc: 'Rib snap infant onesie for the junior automation engineer in development. Reinforced 3-snap bottom closure, two-needle hemmed sleeved and bottom won\'t unravel.'},
+        {id: 3, name: 'Test.allTheThings() T-Shirt (Red)', price: 15.99,
+            desc: 'This classic Sauce Labs t-shirt is perfect to wear when cozying up to your keyboard to automate a few tests. Super-soft and comfy ringspun combed cotton.'}
+    ];
+
+    // ---------- Helpers ----------
+
+    function el(tag, attributes, children) {
+        var element = document.createElement(tag);
+        Object.keys(attributes || {}).forEach(function (name) {
+            if (name === 'text') {
+                element.textContent = attributes.text;
+            } else if (name.indexOf('on') === 0) {
+                element.addEventListener(name.substring(2), attributes[name]);
+            } else {
+                element.setAttribute(name, attributes[name]);
+            }
+        });
+        (children || []).forEach(function (child) {
+            if (child) {
+                element.appendChild(child);
+            }
+        });
+        return element;
+    }
+
+    function slug(name) {
+        return name.toLowerCase().replace(/\s+/g, '-');
+    }
+
+    function money(value) {
+        return '$' + value.toFixed(2);
+    }
+
+    function go(path) {
+        window.location.href = path;
+    }
+
+    function product(id) {
+        return PRODUCTS.filter(function (item) {
+            return item.id === id;
+        })[0];
+    }
+
+    function sessionUser() {
+        var match = document.cookie.match(new RegExp('(?:^|; )' + SESSION_COOKIE + '=([^;]*)'));
+        return match ? decodeURIComponent(match[1]) : null;
+    }
+
+    function startSession(user) {
+        document.cookie = SESSION_COOKIE + '=' + encodeURIComponent(user) + '; path=/';
+    }
+
+    function endSession() {
+        document.cookie = SESSION_COOKIE + '=; path=/; expires=Thu, 01 Jan 1970 00:00:00 GMT';
+    }
+
+    function cart() {
+        try {
+            var ids = JSON.parse(window.localStorage.getItem(CART_KEY));
+            return Array.isArray(ids) ? ids : [];
+        } catch (e) {
+            return [];
+        }
+    }
+
+    function saveCart(ids) {
+        if (ids.length) {
+            window.localStorage.setItem(CART_KEY, JSON.stringify(ids));
+        } else {
+            window.localStorage.removeItem(CART_KEY);
+        }
+        renderBadge();
+    }
+
+    function inCart(id) {
+        return cart().indexOf(id) >= 0;
+    }
+
+    function toggleCart(id) {
+        var ids = cart();
+        var index = ids.indexOf(id);
+        if (index >= 0) {
+            ids.splice(index, 1);
+        } else {
+            ids.push(id);
+        }
+        saveCart(ids);
+        return index < 0;
+    }
+
+    // Mirrors the value attribute like React controlled inputs do
+    function input(attributes) {
+        var field = el('input', attributes);
+        field.addEventListener('input', function () {
+            field.setAttribute('value', field.value);
+        });
+        return field;
+    }
+
+    function button(id, text, className, onclick) {
+        return el('button', {
+            id: id, name: id, 'data-test': id, 'class': className, text: text, onclick: onclick
+        });
+    }
+
+    function errorMessage(container, text) {
+        container.innerHTML = '';
+        container.classList.toggle('error', !!text);
+        if (text) {
+            container.appendChild(el('h3', {'data-test': 'error', text: text}));
+        }
+    }
+
+    // ---------- Shared layout ----------
+
+    function renderBadge() {
+        var link = document.querySelector('[data-test="shopping-cart-link"]');
+        if (!link) {
+            return;
+        }
+        var badge = link.querySelector('.shopping_cart_badge');
+        var count = cart().length;
+        if (count && !badge) {
+            link.appendChild(el('span', {'class': 'shopping_cart_badge', 'data-test': 'shopping-cart-badge'}));
+            badge = link.querySelector('.shopping_cart_badge');
+        }
+        if (badge) {
+            if (count) {
+                badge.textContent = String(count);
+            } else {
+                badge.remove();
+            }
+        }
+    }
+
+    function header(title, extra) {
+        var menu = el('nav', {'class': 'bm-menu-wrap', 'aria-hidden': 'true'}, [
+            el('a', {id: 'inventory_sidebar_link', 'data-test': 'inventory-sidebar-link', 'class': 'bm-item menu-item',
+                href: '/inventory.html', text: 'All Items'}),
+            el('a', {id: 'about_sidebar_link', 'data-test': 'about-sidebar-link', 'class': 'bm-item menu-item',
+                href: 'https://saucelabs.com/', text: 'About'}),
+            el('a', {id: 'logout_sidebar_link', 'data-test': 'logout-sidebar-link', 'class': 'bm-item menu-item',
+                href: '#', text: 'Logout', onclick: function (event) {
+                    event.preventDefault();
+                    endSession();
+                    go('/');
+                }}),
+            el('a', {id: 'reset_sidebar_link', 'data-test': 'reset-sidebar-link', 'class': 'bm-item menu-item',
+                href: '#', text: 'Reset App State', onclick: function (event) {
+                    event.preventDefault();
+                    saveCart([]);
+                }}),
+            button('react-burger-cross-btn', 'Close Menu', 'bm-cross-button', function () {
+                menu.setAttribute('aria-hidden', 'true');
+            })
+        ]);
+
+        return el('div', {id: 'header_container', 'class': 'header_container', 'data-test': 'header-container'}, [
+            el('div', {'class': 'primary_header', 'data-test': 'primary-header'}, [
+                el('div', {'class': 'bm-burger-button'}, [
+                    button('react-burger-menu-btn', 'Open Menu', 'bm-burger', function () {
+                        menu.setAttribute('aria-hidden', 'false');
+                    })
+                ]),
+                menu,
+                el('div', {'class': 'header_label'}, [el('div', {'class': 'app_logo', text: 'Swag Labs'})]),
+                el('div', {id: 'shopping_cart_container', 'class': 'shopping_cart_container'}, [
+                    el('a', {'class': 'shopping_cart_link', 'data-test': 'shopping-cart-link', href: '/cart.html'})
+                ])
+            ]),
+            el('div', {'class': 'header_secondary_container', 'data-test': 'secondary-header'}, [
+                el('span', {'class': 'title', 'data-test': 'title', text: title}),
+                extra
+            ])
+        ]);
+    }
+
+    function page(title, content, extra) {
+        return el('div', {id: 'page_wrapper', 'class': 'page_wrapper'}, [
+            el('div', {id: 'contents_wrapper'}, [
+                header(title, extra),
+                el('div', {id: 'content'}, [content])
+            ])
+        ]);
+    }
+
+    function cartItem(item, removable) {
+        var row = el('div', {'class': 'cart_item', 'data-test': 'inventory-item'});
+        var label = el('div', {'class': 'cart_item_label'}, [
+            el('a', {id: 'item_' + item.id + '_title_link', 'data-test': 'item-' + item.id + '-title-link',
+                href: '/inventory-item.html?id=' + item.id}, [
+                el('div', {'class': 'inventory_item_name', 'data-test': 'inventory-item-name', text: item.name})
+            ]),
+            el('div', {'class': 'inventory_item_desc', 'data-test': 'inventory-item-desc', text: item.desc}),
+            el('div', {'class': 'item_pricebar'}, [
+                el('div', {'class': 'inventory_item_price', 'data-test': 'inventory-item-price', text: money(item.price)}),
+                removable ? button('remove-' + slug(item.name), 'Remove', 'btn btn_secondary btn_small cart_button',
+                    function () {
+                        toggleCart(item.id);
+                        row.remove();
+                    }) : null
+            ])
+        ]);
+        row.appendChild(el('div', {'class': 'cart_quantity', 'data-test': 'item-quantity', text: '1'}));
+        row.appendChild(label);
+        return row;
+    }
+
+    function cartList(removable) {
+        return el('div', {'class': 'cart_list', 'data-test': 'cart-list'}, [
+            el('div', {'class': 'cart_quantity_label', 'data-test': 'cart-quantity-label', text: 'QTY'}),
+            el('div', {'class': 'cart_desc_label', 'data-test': 'cart-desc-label', text: 'Description'})
+        ].concat(cart().map(product).filter(Boolean).map(function (item) {
+            return cartItem(item, removable);
+        })));
+    }
+
+    // ---------- Pages ----------
+
+    function loginPage() {
+        var errorContainer = el('div', {'class': 'error-message-container'});
+        var username = input({id: 'user-name', name: 'user-name', 'data-test': 'username', type: 'text',
+            placeholder: 'Username', 'class': 'input_error form_input', autocorrect: 'off', autocapitalize: 'none'});
+        var password = input({id: 'password', name: 'password', 'data-test': 'password', type: 'password',
+            placeholder: 'Password', 'class': 'input_error form_input', autocorrect: 'off', autocapitalize: 'none'});
+
+        var form = el('form', {
+            onsubmit: function (event) {
+                event.preventDefault();
+                var user = username.value;
+                if (!user) {
+                    errorMessage(errorContainer, 'Epic sadface: Username is required');
+                } else if (!password.value) {
+                    errorMessage(errorContainer, 'Epic sadface: Password is required');
+                } else if (USERS.indexOf(user) < 0 || password.value !== PASSWORD) {
+                    errorMessage(errorContainer, 'Epic sadface: Username and password do not match any user in this service');
+                } else if (user === 'locked_out_user') {
+                    errorMessage(errorContainer, 'Epic sadface: Sorry, this user has been locked out.');
+                } else {
+                    startSession(user);
+                    go('/inventory.html');
+                }
+            }
+        }, [
+            el('div', {'class': 'form_group'}, [username]),
+            el('div', {'class': 'form_group'}, [password]),
+            errorContainer,
+            el('input', {id: 'login-button', name: 'login-button', 'data-test': 'login-button', type: 'submit',
+                'class': 'submit-button btn_action', value: 'Login'})
+        ]);
+
+        var pendingError = window.sessionStorage.getItem(LOGIN_ERROR_KEY);
+        if (pendingError) {
+            window.sessionStorage.removeItem(LOGIN_ERROR_KEY);
+            errorMessage(errorContainer, pendingError);
+        }
+
+        return el('div', {'class': 'login_container'}, [
+            el('div', {'class': 'login_logo', text: 'Swag Labs'}),
+            el('div', {'class': 'login_wrapper'}, [el('div', {'class': 'login-box'}, [form])])
+        ]);
+    }
+
+    function inventoryPage() {
+        var order = {
+            az: function (a, b) { return a.name.localeCompare(b.name); },
+            za: function (a, b) { return b.name.localeCompare(a.name); },
+            lohi: function (a, b) { return a.price - b.price; },
+            hilo: function (a, b) { return b.price - a.price; }
+        };
+        var list = el('div', {'class': 'inventory_list', 'data-test': 'inventory-list'});
+
+        function renderItems(sort) {
+            list.innerHTML = '';
+            PRODUCTS.slice().sort(order[sort]).forEach(function (item) {
+                var name = slug(item.name);
+                var add = !inCart(item.id);
+                var toggle = button((add ? 'add-to-cart-' : 'remove-') + name, add ? 'Add to cart' : 'Remove',
+                    'btn ' + (add ? 'btn_primary' : 'btn_secondary') + ' btn_small btn_inventory', function () {
+                        var added = toggleCart(item.id);
+                        var id = (added ? 'remove-' : 'add-to-cart-') + name;
+                        toggle.id = id;
+                        toggle.name = id;
+                        toggle.setAttribute('data-test', id);
+                        toggle.textContent = added ? 'Remove' : 'Add to cart';
+                        toggle.className = 'btn ' + (added ? 'btn_secondary' : 'btn_primary') + ' btn_small btn_inventory';
+                    });
+
+                list.appendChild(el('div', {'class': 'inventory_item', 'data-test': 'inventory-item'}, [
+                    el('div', {'class': 'inventory_item_description', 'data-test': 'inventory-item-description'}, [
+                        el('div', {'class': 'inventory_item_label'}, [
+                            el('a', {id: 'item_' + item.id + '_title_link', 'data-test': 'item-' + item.id + '-title-link',
+                                href: '/inventory-item.html?id=' + item.id}, [
+                                el('div', {'class': 'inventory_item_name', 'data-test': 'inventory-item-name', text: item.name})
+                            ]),
+                            el('div', {'class': 'inventory_item_desc', 'data-test': 'inventory-item-desc', text: item.desc})
+                        ]),
+                        el('div', {'class': 'pricebar'}, [
+                            el('div', {'class': 'inventory_item_price', 'data-test': 'inventory-item-price', text: money(item.price)}),
+                            toggle
+                        ])
+                    ])
+                ]));
+            });
+        }
+
+        var sort = el('select', {'class': 'product_sort_container', 'data-test': 'product-sort-container',
+            onchange: function () {
+                renderItems(sort.value);
+            }}, [
+            el('option', {value: 'az', text: 'Name (A to Z)'}),
+            el('option', {value: 'za', text: 'Name (Z to A)'}),
+            el('option', {value: 'lohi', text: 'Price (low to high)'}),
+            el('option', {value: 'hilo', text: 'Price (high to low)'})
+        ]);
+
+        renderItems('az');
+        return page('Products', el('div', {id: 'inventory_container', 'class': 'inventory_container'}, [list]),
+            el('div', {'class': 'right_component'}, [sort]));
+    }
+
+    function inventoryItemPage() {
+        var id = Number(new URLSearchParams(window.location.search).get('id'));
+        var item = product(id);
+        var back = button('back-to-products', 'Back to products', 'btn btn_secondary back', function () {
+            go('/inventory.html');
+        });
+        if (!item) {
+            return page('', el('div', {'class': 'inventory_details_name large_size', text: 'ITEM NOT FOUND'}), back);
+        }
+
+        var added = inCart(item.id);
+        var toggle = button(added ? 'remove' : 'add-to-cart', added ? 'Remove' : 'Add to cart',
+            'btn btn_small btn_inventory ' + (added ? 'btn_secondary' : 'btn_primary'), function () {
+                var nowAdded = toggleCart(item.id);
+                var newId = nowAdded ? 'remove' : 'add-to-cart';
+                toggle.id = newId;
+                toggle.name = newId;
+                toggle.setAttribute('data-test', newId);
+                toggle.textContent = nowAdded ? 'Remove' : 'Add to cart';
+            });
+
+        return page('', el('div', {'class': 'inventory_details', 'data-test': 'inventory-container'}, [
+            el('div', {'class': 'inventory_details_desc_container'}, [
+                el('div', {'class': 'inventory_details_name large_size', 'data-test': 'inventory-item-name', text: item.name}),
+                el('div', {'class': 'inventory_details_desc large_size', 'data-test': 'inventory-item-desc', text: item.desc}),
+                el('div', {'class': 'inventory_details_price', 'data-test': 'inventory-item-price', text: money(item.price)}),
+                toggle
+            ])
+        ]), back);
+    }
+
+    function cartPage() {
+        return page('Your Cart', el('div', {id: 'cart_contents_container', 'class': 'cart_contents_container'}, [
+            cartList(true),
+            el('div', {'class': 'cart_footer'}, [
+                button('continue-shopping', 'Continue Shopping', 'btn btn_secondary back btn_medium', function () {
+                    go('/inventory.html');
+                }),
+                button('checkout', 'Checkout', 'btn btn_action btn_medium checkout_button', function () {
+                    go('/checkout-step-one.html');
+                })
+            ])
+        ]));
+    }
+
+    function checkoutStepOnePage() {
+        var errorContainer = el('div', {'class': 'error-message-container'});
+        var firstName = input({id: 'first-name', name: 'firstName', 'data-test': 'firstName', type: 'text',
+            placeholder: 'First Name', 'class': 'input_error form_input', autocorrect: 'off', autocapitalize: 'none'});
+        var lastName = input({id: 'last-name', name: 'lastName', 'data-test': 'lastName', type: 'text',
+            placeholder: 'Last Name', 'class': 'input_error form_input', autocorrect: 'off', autocapitalize: 'none'});
+        var postalCode = input({id: 'postal-code', name: 'postalCode', 'data-test': 'postalCode', type: 'text',
+            placeholder: 'Zip/Postal Code', 'class': 'input_error form_input', autocorrect: 'off', autocapitalize: 'none'});
+
+        var form = el('form', {
+            onsubmit: function (event) {
+                event.preventDefault();
+                if (!firstName.value) {
+                    errorMessage(errorContainer, 'Error: First Name is required');
+                } else if (!lastName.value) {
+                    errorMessage(errorContainer, 'Error: Last Name is required');
+                } else if (!postalCode.value) {
+                    errorMessage(errorContainer, 'Error: Postal Code is required');
+                } else {
+                    go('/checkout-step-two.html');
+                }
+            }
+        }, [
+            el('div', {'class': 'checkout_info'}, [
+                el('div', {'class': 'form_group'}, [firstName]),
+                el('div', {'class': 'form_group'}, [lastName]),
+                el('div', {'class': 'form_group'}, [postalCode]),
+                errorContainer
+            ]),
+            el('div', {'class': 'checkout_buttons'}, [
+                button('cancel', 'Cancel', 'btn btn_secondary back btn_medium cart_cancel_link', function (event) {
+                    event.preventDefault();
+                    go('/cart.html');
+                }),
+                el('input', {id: 'continue', name: 'continue', 'data-test': 'continue', type: 'submit',
+                    'class': 'submit-button btn btn_primary cart_button btn_action', value: 'Continue'})
+            ])
+        ]);
+
+        return page('Checkout: Your Information',
+            el('div', {id: 'checkout_info_container', 'class': 'checkout_info_container'}, [
+                el('div', {'class': 'checkout_info_wrapper'}, [form])
+            ]));
+    }
+
+    function checkoutStepTwoPage() {
+        var subtotal = cart().map(product).filter(Boolean).reduce(function (sum, item) {
+            return sum + item.price;
+        }, 0);
+        var tax = Math.round(subtotal * TAX_RATE * 100) / 100;
+
+        return page('Checkout: Overview', el('div', {id: 'checkout_summary_container', 'class': 'checkout_summary_container'}, [
+            cartList(false),
+            el('div', {'class': 'summary_info'}, [
+                el('div', {'class': 'summary_info_label', 'data-test': 'payment-info-label', text: 'Payment Information:'}),
+                el('div', {'class': 'summary_value_label', 'data-test': 'payment-info-value', text: 'SauceCard #31337'}),
+                el('div', {'class': 'summary_info_label', 'data-test': 'shipping-info-label', text: 'Shipping Information:'}),
+                el('div', {'class': 'summary_value_label', 'data-test': 'shipping-info-value', text: 'Free Pony Express Delivery!'}),
+                el('div', {'class': 'summary_info_label', 'data-test': 'total-info-label', text: 'Price Total'}),
+                el('div', {'class': 'summary_subtotal_label', 'data-test': 'subtotal-label', text: 'Item total: ' + money(subtotal)}),
+                el('div', {'class': 'summary_tax_label', 'data-test': 'tax-label', text: 'Tax: ' + money(tax)}),
+                el('div', {'class': 'summary_info_label summary_total_label', 'data-test': 'total-label',
+                    text: 'Total: ' + money(subtotal + tax)}),
+                el('div', {'class': 'cart_footer'}, [
+                    button('cancel', 'Cancel', 'btn btn_secondary back btn_medium cart_cancel_link', function () {
+                        go('/inventory.html');
+                    }),
+                    button('finish', 'Finish', 'btn btn_action btn_medium cart_button', function () {
+                        saveCart([]);
+                        go('/checkout-complete.html');
+                    })
+                ])
+            ])
+        ]));
+    }
+
+    function checkoutCompletePage() {
+        return page('Checkout: Complete!', el('div', {id: 'checkout_complete_container', 'class': 'checkout_complete_container'}, [
+            el('h2', {'class': 'complete-header', 'data-test': 'complete-header', text: 'Thank you for your order!'}),
+            el('div', {'class': 'complete-text', 'data-test': 'complete-text',
+                text: 'Your order has been dispatched, and will arrive just as fast as the pony can get there!'}),
+            button('back-to-products', 'Back Home', 'btn btn_primary btn_small', function () {
+                go('/inventory.html');
+            })
+        ]));
+    }
+
+    // ---------- Bootstrap ----------
+
+    var PAGES = {
+        'login': loginPage,
+        'inventory': inventoryPage,
+        'inventory-item': inventoryItemPage,
+        'cart': cartPage,
+        'checkout-step-one': checkoutStepOnePage,
+        'checkout-step-two': checkoutStepTwoPage,
+        'checkout-complete': checkoutCompletePage
+    };
+
+    var name = document.body.getAttribute('data-page');
+    if (name !== 'login' && !sessionUser()) {
+        window.sessionStorage.setItem(LOGIN_ERROR_KEY,
+            'Epic sadface: You can only access \'' + window.location.pathname + '\' when you are logged in.');
+        go('/');
+        return;
+    }
+
+    document.getElementById('root').appendChild(PAGES[name]());
+    renderBadge();
+})();
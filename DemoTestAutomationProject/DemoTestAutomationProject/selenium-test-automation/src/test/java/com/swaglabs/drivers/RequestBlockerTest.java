@@ -0,0 +1,175 @@
+package com.swaglabs.drivers;
+
+import com.swaglabs.drivers.RequestBlocker.SessionCounter;
+import org.openqa.selenium.WebDriver;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests for RequestBlocker
+ *
+ * The session counter is fed with Network events shaped like the ones
+ * DevTools sends, and registered for a stub driver. No browser is started.
+ */
+public class RequestBlockerTest {
+
+    // =========================
+    // Test Variables
+    // =========================
+
+    private static final List<String> PATTERNS = List.of("*.png", "*google-analytics.com/*");
+
+    private static final String LOGO = "https://www.saucedemo.com/static/media/logo.png";
+    private static final String ANALYTICS = "https://www.google-analytics.com/g/collect?v=2";
+    private static final String SCRIPT = "https://www.saucedemo.com/static/js/main.js";
+    private static final String FONT = "https://fonts.gstatic.com/s/roboto.woff2";
+
+    // =========================
+    // Test Cases
+    // =========================
+
+    @Test
+    public void convertsPatternsToRegex() {
+        Pattern regex = RequestBlocker.toRegex(PATTERNS);
+
+        assertTrue(regex.matcher(LOGO).matches());
+        assertTrue(regex.matcher(ANALYTICS).matches());
+        assertFalse(regex.matcher(SCRIPT).matches());
+        // '.' and '?' in patterns are literal, only '*' is a wildcard
+        assertFalse(regex.matcher("https://www.saucedemo.com/logoXpng").matches());
+        assertTrue(RequestBlocker.toRegex(List.of("*/collect?v=*")).matcher(ANALYTICS).matches());
+        assertFalse(RequestBlocker.toRegex(List.of("*/collect?v=*")).matcher("https://example.com/collectXv=2").matches());
+    }
+
+    @Test
+    public void countsOnlyRequestsBlockedByPattern() {
+        SessionCounter counter = new SessionCounter(RequestBlocker.toRegex(PATTERNS));
+        WebDriver driver = stubDriver();
+        RequestBlocker.track(driver, counter);
+        String testName = "countsOnlyRequestsBlockedByPattern-" + UUID.randomUUID();
+
+        blocked(counter, "1", LOGO);
+        blocked(counter, "2", LOGO);
+        blocked(counter, "3", ANALYTICS);
+        // Not matching any pattern
+        blocked(counter, "4", SCRIPT);
+        // Matching, but failed for another reason
+        counter.onRequest(request("5", LOGO));
+        counter.onFailure(Map.of("requestId", "5", "errorText", "net::ERR_CONNECTION_RESET"));
+        // Failure without a matching request
+        counter.onFailure(Map.of("requestId", "6", "blockedReason", "inspector"));
+
+        RequestBlocker.recordTest(testName, driver);
+        RequestBlocker.export();
+
+        assertEquals(rowsOf(testName), Set.of(
+                csvRow(testName, LOGO, 2, -1),
+                csvRow(testName, ANALYTICS, 1, -1)));
+    }
+
+    @Test
+    public void reportsEachTestOnlyItsOwnRequests() {
+        SessionCounter counter = new SessionCounter(RequestBlocker.toRegex(PATTERNS));
+        WebDriver driver = stubDriver();
+        RequestBlocker.track(driver, counter);
+        String first = "first-" + UUID.randomUUID();
+        String second = "second-" + UUID.randomUUID();
+
+        blocked(counter, "1", LOGO);
+        RequestBlocker.recordTest(first, driver);
+        blocked(counter, "2", ANALYTICS);
+        RequestBlocker.recordTest(second, driver);
+        RequestBlocker.export();
+
+        assertEquals(rowsOf(first), Set.of(csvRow(first, LOGO, 1, -1)));
+        assertEquals(rowsOf(second), Set.of(csvRow(second, ANALYTICS, 1, -1)));
+    }
+
+    @Test
+    public void estimatesBlockedSizeFromLoadedResponsesOfTheSameType() {
+        SessionCounter counter = new SessionCounter(RequestBlocker.toRegex(List.of("*fonts.gstatic.com/*")));
+        WebDriver driver = stubDriver();
+        RequestBlocker.track(driver, counter);
+        String testName = "estimatesBlockedSize-" + UUID.randomUUID();
+
+        // Two fonts that loaded: 30000 and 10000 encoded bytes
+        loaded(counter, "1", "https://www.saucedemo.com/static/media/a.woff2", 30_000);
+        loaded(counter, "2", "https://www.saucedemo.com/static/media/b.woff2", 10_000);
+        // A blocked font, estimated at the average of the loaded ones
+        counter.onRequest(request("3", FONT, "Font"));
+        counter.onFailure(Map.of("requestId", "3", "errorText", "net::ERR_BLOCKED_BY_CLIENT",
+                "blockedReason", "inspector"));
+
+        RequestBlocker.recordTest(testName, driver);
+        RequestBlocker.export();
+
+        assertEquals(RequestBlocker.estimatedSize(FONT), 20_000);
+        assertEquals(rowsOf(testName), Set.of(csvRow(testName, FONT, "Font", 1, 20_000)));
+    }
+
+    // =========================
+    // Helpers
+    // =========================
+
+    private static void blocked(SessionCounter counter, String requestId, String url) {
+        counter.onRequest(request(requestId, url));
+        counter.onFailure(Map.of("requestId", requestId, "errorText", "net::ERR_BLOCKED_BY_CLIENT",
+                "blockedReason", "inspector"));
+    }
+
+    private static void loaded(SessionCounter counter, String requestId, String url, long encodedDataLength) {
+        counter.onRequest(request(requestId, url, "Font"));
+        counter.onFinished(Map.of("requestId", requestId, "encodedDataLength", encodedDataLength));
+    }
+
+    private static Map<String, Object> request(String requestId, String url) {
+        return Map.of("requestId", requestId, "request", Map.of("url", url, "method", "GET"));
+    }
+
+    private static Map<String, Object> request(String requestId, String url, String type) {
+        return Map.of("requestId", requestId, "type", type, "request", Map.of("url", url, "method", "GET"));
+    }
+
+    private static String csvRow(String test, String url, int requests, long estimate) {
+        return csvRow(test, url, "Other", requests, estimate);
+    }
+
+    private static String csvRow(String test, String url, String type, int requests, long estimate) {
+        return "\"" + test + "\",\"" + url + "\"," + type + "," + requests + "," + estimate;
+    }
+
+    private static Set<String> rowsOf(String test) {
+        try {
+            List<String> rows = Files.readAllLines(Path.of(RequestBlocker.METRICS_PATH, "blocked-requests.csv"));
+            assertEquals(rows.get(0), "test,url,type,requests,estimatedBytesPerRequest");
+            return rows.stream()
+                    .filter(row -> row.startsWith("\"" + test + "\","))
+                    .collect(Collectors.toSet());
+        } catch (IOException e) {
+            throw new AssertionError("blocked-requests.csv was not written", e);
+        }
+    }
+
+    private static WebDriver stubDriver() {
+        return (WebDriver) Proxy.newProxyInstance(
+                RequestBlockerTest.class.getClassLoader(),
+                new Class<?>[]{WebDriver.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,180 @@
+package com.swaglabs.tests;
+
+import com.swaglabs.drivers.ChromeFactory;
+import com.swaglabs.drivers.EdgeFactory;
+import com.swaglabs.drivers.FirefoxFactory;
+import com.swaglabs.utils.AllureUtils;
+import com.swaglabs.utils.FrameworkConfig;
+import com.swaglabs.utils.FrameworkConfig.BrowserProfile;
+import com.swaglabs.utils.LogsUtil;
+import com.swaglabs.utils.StandInServer;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.firefox.FirefoxDriver;
+import org.testng.SkipException;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Browser Profile Benchmark
+ *
+ * Measures browser startup and page load time for each browser
+ * under the Default and Fast browser profiles.
+ * Not part of the regular test run; start it explicitly:
+ *
+ * <pre>
+ * mvn test -Dtest=BrowserProfileBenchmark -DbenchmarkBrowsers=chrome,firefox -DbenchmarkIterations=5
+ * </pre>
+ *
+ * Results are written to test-outputs/metrics/browser-profiles.csv and
+ * listed in the Allure report. Browsers that cannot be started are skipped.
+ */
+public class BrowserProfileBenchmark {
+
+    // =========================
+    // Test Variables
+    // =========================
+
+    private static final String METRICS_PATH = "test-outputs/metrics/";
+
+    private final List<Result> results = new ArrayList<>();
+
+    // =========================
+    // Test Cases
+    // =========================
+
+    @Test(dataProvider = "browserProfiles")
+    public void measureStartupAndPageLoad(String browser, BrowserProfile profile) {
+        int iterations = Integer.parseInt(setting("benchmarkIterations", "5"));
+        String url = FrameworkConfig.get().getRequired("baseURL");
+
+        // Warm-up run, so driver binaries are resolved and cached before measuring
+        measure(browser, profile, url);
+
+        long[] startupNanos = new long[iterations];
+        long[] pageLoadNanos = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long[] sample = measure(browser, profile, url);
+            startupNanos[i] = sample[0];
+            pageLoadNanos[i] = sample[1];
+        }
+
+        Result result = new Result(browser, profile, iterations, median(startupNanos), median(pageLoadNanos));
+        LogsUtil.info("Browser profile benchmark: " + result.toRow());
+        synchronized (results) {
+            results.add(result);
+        }
+    }
+
+    // =========================
+    // Configuration
+    // =========================
+
+    @DataProvider(name = "browserProfiles")
+    public Object[][] browserProfiles() {
+        List<Object[]> combinations = new ArrayList<>();
+        for (String browser : setting("benchmarkBrowsers", "chrome,firefox,edge").split(",")) {
+            for (BrowserProfile profile : BrowserProfile.values()) {
+                combinations.add(new Object[]{browser.trim().toLowerCase(), profile});
+            }
+        }
+        return combinations.toArray(new Object[0][]);
+    }
+
+    @BeforeClass
+    public void startStandIn() {
+        if (FrameworkConfig.get().applicationTarget() == FrameworkConfig.ApplicationTarget.STAND_IN) {
+            StandInServer.start(FrameworkConfig.get().standInPort());
+        }
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void exportResults() throws IOException {
+        StandInServer.stop();
+        if (results.isEmpty()) {
+            return;
+        }
+
+        StringBuilder csv = new StringBuilder("browser,profile,iterations,startupMs,pageLoadMs\n");
+        StringBuilder summary = new StringBuilder(String.format(Locale.ROOT, "%-8s %-8s %10s %12s %12s%n",
+                "browser", "profile", "iterations", "startup ms", "page load ms"));
+        for (Result result : results) {
+            csv.append(result.toRow()).append('\n');
+            summary.append(String.format(Locale.ROOT, "%-8s %-8s %10d %12.1f %12.1f%n",
+                    result.browser(), result.profile(), result.iterations(),
+                    result.startupNanos() / 1e6, result.pageLoadNanos() / 1e6));
+        }
+
+        Path folder = Files.createDirectories(Path.of(METRICS_PATH));
+        Path file = Files.writeString(folder.resolve("browser-profiles.csv"), csv);
+        AllureUtils.addExecutionSummary("Browser profile benchmark", summary.toString(), file);
+        LogsUtil.info("Browser profile benchmark:\n" + summary);
+    }
+
+    // =========================
+    // Helpers
+    // =========================
+
+    /**
+     * Starts a browser, opens the page and quits.
+     *
+     * @return startup and page load time in nanoseconds
+     */
+    private static long[] measure(String browser, BrowserProfile profile, String url) {
+        long start = System.nanoTime();
+        WebDriver driver;
+        try {
+            driver = start(browser, profile);
+        } catch (WebDriverException e) {
+            throw new SkipException(browser + " is not available: " + e.getMessage());
+        }
+        long started = System.nanoTime();
+        try {
+            driver.get(url);
+            return new long[]{started - start, System.nanoTime() - started};
+        } finally {
+            driver.quit();
+        }
+    }
+
+    private static WebDriver start(String browser, BrowserProfile profile) {
+        return switch (browser) {
+            case "chrome" -> new ChromeDriver(new ChromeFactory().getOptions(profile));
+            case "firefox" -> new FirefoxDriver(new FirefoxFactory().getOptions(profile));
+            case "edge" -> new EdgeDriver(new EdgeFactory().getOptions(profile));
+            default -> throw new IllegalArgumentException("Unsupported browser: " + browser);
+        };
+    }
+
+    private static String setting(String key, String fallback) {
+        String value = FrameworkConfig.get().getString(key);
+        return value == null || value.isBlank() ? fallback : value;
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private record Result(String browser, BrowserProfile profile, int iterations,
+                          long startupNanos, long pageLoadNanos) {
+
+        private String toRow() {
+            return String.format(Locale.ROOT, "%s,%s,%d,%.1f,%.1f", browser, profile, iterations,
+                    startupNanos / 1e6, pageLoadNanos / 1e6);
+        }
+    }
+}
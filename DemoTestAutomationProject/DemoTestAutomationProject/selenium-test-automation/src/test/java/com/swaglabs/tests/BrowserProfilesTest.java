@@ -0,0 +1,112 @@
+package com.swaglabs.tests;
+
+import com.swaglabs.drivers.ChromeFactory;
+import com.swaglabs.drivers.EdgeFactory;
+import com.swaglabs.drivers.FirefoxFactory;
+import com.swaglabs.utils.FrameworkConfig;
+import com.swaglabs.utils.FrameworkConfig.BrowserProfile;
+import com.swaglabs.utils.FrameworkConfig.FastProfile;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.chromium.ChromiumOptions;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests for the Default and Fast browser profiles
+ *
+ * Only inspects the built options, no browser is started.
+ * Expects the fast* switches of web.properties to be enabled.
+ */
+public class BrowserProfilesTest {
+
+    // =========================
+    // Test Cases
+    // =========================
+
+    @Test
+    public void fastProfileAppliesChromiumSwitches() {
+        FastProfile fast = FrameworkConfig.get().fastProfile();
+
+        for (ChromiumOptions<?> options : List.of(
+                new ChromeFactory().getOptions(BrowserProfile.FAST),
+                new EdgeFactory().getOptions(BrowserProfile.FAST))) {
+            List<String> args = chromiumArgs(options);
+
+            assertTrue(args.contains("--headless=new"), args.toString());
+            assertTrue(args.contains("--window-size=" + fast.windowWidth() + "," + fast.windowHeight()));
+            assertTrue(args.contains("--disable-gpu"));
+            assertTrue(args.contains("--disable-background-networking"));
+            assertFalse(args.contains("--start-maximized"));
+            assertEquals(chromiumPrefs(options).get("profile.managed_default_content_settings.images"), 2);
+            assertEquals(options.getCapability("pageLoadStrategy"), PageLoadStrategy.EAGER);
+        }
+    }
+
+    @Test
+    public void defaultProfileKeepsMaximizedWindowAndFullPageLoad() {
+        for (ChromiumOptions<?> options : List.of(
+                new ChromeFactory().getOptions(BrowserProfile.DEFAULT),
+                new EdgeFactory().getOptions(BrowserProfile.DEFAULT))) {
+            List<String> args = chromiumArgs(options);
+
+            assertTrue(args.contains("--start-maximized"));
+            assertFalse(args.contains("--disable-gpu"));
+            assertFalse(chromiumPrefs(options).containsKey("profile.managed_default_content_settings.images"));
+            assertEquals(options.getCapability("pageLoadStrategy"), PageLoadStrategy.NORMAL);
+        }
+    }
+
+    @Test
+    public void firefoxUsesFirefoxSettingsOnly() {
+        Capabilities options = new FirefoxFactory().getOptions(BrowserProfile.FAST);
+        Map<String, Object> firefox = firefoxOptions(options);
+        List<?> args = (List<?>) firefox.get("args");
+        Map<?, ?> prefs = (Map<?, ?>) firefox.get("prefs");
+
+        assertTrue(args.contains("-headless"), args.toString());
+        assertTrue(args.stream().noneMatch(arg -> arg.toString().startsWith("--disable-")), args.toString());
+        assertFalse(args.contains("--start-maximized"));
+        assertEquals(prefs.get("permissions.default.image"), 2);
+        assertEquals(prefs.get("layers.acceleration.disabled"), true);
+        assertEquals(options.getCapability("pageLoadStrategy"), PageLoadStrategy.EAGER);
+    }
+
+    @Test
+    public void configuredProfileIsUsedByDefault() {
+        BrowserProfile configured = FrameworkConfig.get().browserProfile();
+
+        assertEquals(new ChromeFactory().getOptions().asMap(),
+                new ChromeFactory().getOptions(configured).asMap());
+    }
+
+    // =========================
+    // Helpers
+    // =========================
+
+    @SuppressWarnings("unchecked")
+    private static List<String> chromiumArgs(ChromiumOptions<?> options) {
+        return (List<String>) chromiumVendorOptions(options).get("args");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> chromiumPrefs(ChromiumOptions<?> options) {
+        return (Map<String, Object>) chromiumVendorOptions(options).get("prefs");
+    }
+
+    // goog:chromeOptions or ms:edgeOptions
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> chromiumVendorOptions(ChromiumOptions<?> options) {
+        Object vendor = options.getCapability("goog:chromeOptions");
+        return (Map<String, Object>) (vendor != null ? vendor : options.getCapability("ms:edgeOptions"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> firefoxOptions(Capabilities options) {
+        return (Map<String, Object>) options.asMap().get("moz:firefoxOptions");
+    }
+}
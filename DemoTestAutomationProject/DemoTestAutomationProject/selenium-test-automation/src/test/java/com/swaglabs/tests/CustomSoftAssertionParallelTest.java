@@ -0,0 +1,155 @@
+package com.swaglabs.tests;
+
+import com.swaglabs.utils.CustomSoftAssertion;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.testng.ITestResult;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.*;
+
+/**
+ * Stress test for CustomSoftAssertion
+ *
+ * Runs many test invocations concurrently, each collecting its own
+ * soft assertion failures, and verifies that flushing a test never
+ * reports or resets assertions made by another test.
+ *
+ * The failures are intentional, so the ERROR lines customAssertAll logs
+ * for them are switched off while this class runs.
+ */
+public class CustomSoftAssertionParallelTest {
+
+    // =========================
+    // Test Variables
+    // =========================
+
+    private static final int FAILURES_PER_TEST = 25;
+
+    // Used to alternate between failing and passing invocations
+    private final AtomicInteger invocations = new AtomicInteger();
+
+    // Level of the CustomSoftAssertion logger before this class ran
+    private Level loggerLevel;
+
+    // =========================
+    // Test Cases
+    // =========================
+
+    /**
+     * Every invocation tags its assertions with a unique id and checks
+     * that only its own assertions are reported when flushed.
+     */
+    @Test(invocationCount = 400, threadPoolSize = 16)
+    public void assertionsStayWithinTheirTest() throws InterruptedException {
+        String testId = UUID.randomUUID().toString();
+        boolean failing = invocations.incrementAndGet() % 2 == 0;
+
+        for (int i = 0; i < FAILURES_PER_TEST; i++) {
+            CustomSoftAssertion.softAssertion().assertEquals(
+                    failing ? "actual" : "expected",
+                    "expected",
+                    testId + "#" + i
+            );
+            // Interleave with the other threads between assertions
+            Thread.sleep(ThreadLocalRandom.current().nextInt(2));
+        }
+
+        RecordedResult recorded = new RecordedResult();
+        CustomSoftAssertion.customAssertAll(recorded.asTestResult());
+
+        if (!failing) {
+            assertNull(recorded.throwable, "Passing test received assertions from another test");
+            return;
+        }
+
+        assertEquals(recorded.status, ITestResult.FAILURE);
+        assertNotNull(recorded.throwable, "Failing test lost its own assertions");
+        String message = recorded.throwable.getMessage();
+        assertEquals(occurrences(message, " expected ["), FAILURES_PER_TEST,
+                "Unexpected number of failures reported: " + message);
+        assertEquals(occurrences(message, testId), FAILURES_PER_TEST,
+                "Failures from another test were reported: " + message);
+    }
+
+    /**
+     * After a flush the current thread starts with an empty collector.
+     */
+    @Test(invocationCount = 50, threadPoolSize = 8)
+    public void flushHandsOffAFreshCollector() {
+        CustomSoftAssertion before = CustomSoftAssertion.softAssertion();
+        before.assertTrue(false, "left over");
+
+        CustomSoftAssertion.customAssertAll(new RecordedResult().asTestResult());
+
+        CustomSoftAssertion after = CustomSoftAssertion.softAssertion();
+        assertNotSame(after, before);
+        after.assertAll();
+    }
+
+    // =========================
+    // Configuration
+    // =========================
+
+    @BeforeClass
+    public void silenceIntentionalFailures() {
+        loggerLevel = LogManager.getLogger(CustomSoftAssertion.class).getLevel();
+        Configurator.setLevel(CustomSoftAssertion.class.getName(), Level.OFF);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void restoreLogging() {
+        Configurator.setLevel(CustomSoftAssertion.class.getName(), loggerLevel);
+    }
+
+    // =========================
+    // Helpers
+    // =========================
+
+    private static int occurrences(String text, String token) {
+        int count = 0;
+        for (int index = text.indexOf(token); index >= 0; index = text.indexOf(token, index + token.length())) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Minimal ITestResult stand-in capturing what customAssertAll reports.
+     */
+    private static class RecordedResult {
+        private int status = ITestResult.SUCCESS;
+        private Throwable throwable;
+
+        private ITestResult asTestResult() {
+            return (ITestResult) Proxy.newProxyInstance(
+                    ITestResult.class.getClassLoader(),
+                    new Class<?>[]{ITestResult.class},
+                    (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "setStatus" -> status = (int) args[0];
+                            case "setThrowable" -> throwable = (Throwable) args[0];
+                            case "getStatus" -> {
+                                return status;
+                            }
+                            case "getThrowable" -> {
+                                return throwable;
+                            }
+                            default -> {
+                                return null;
+                            }
+                        }
+                        return null;
+                    }
+            );
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.swaglabs.tests;
+
+import com.swaglabs.drivers.CommandCounter;
+import com.swaglabs.utils.ElementCache;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests for ElementCache and its page scoping through PageTracker
+ *
+ * Uses a stub driver decorated like a real session, so navigations go
+ * through the same listeners. No browser is started.
+ */
+public class ElementCacheTest {
+
+    // =========================
+    // Test Variables
+    // =========================
+
+    private static final By BUTTON = By.id("add-to-cart");
+    private static final By TITLE = By.className("title");
+
+    private WebDriver driver;
+    private ElementCache cache;
+    private AtomicInteger lookups;
+    private Function<By, WebElement> finder;
+
+    // =========================
+    // Configuration
+    // =========================
+
+    @BeforeMethod
+    public void setUp() {
+        driver = CommandCounter.decorate(stub(WebDriver.class));
+        driver.get("https://www.saucedemo.com/inventory.html");
+        cache = new ElementCache();
+        lookups = new AtomicInteger();
+        finder = locator -> {
+            lookups.incrementAndGet();
+            return stub(WebElement.class);
+        };
+    }
+
+    // =========================
+    // Test Cases
+    // =========================
+
+    @Test
+    public void reusesElementsOnTheSamePage() {
+        WebElement first = cache.get(BUTTON, finder);
+        WebElement second = cache.get(BUTTON, finder);
+        cache.get(TITLE, finder);
+
+        assertSame(second, first);
+        assertEquals(lookups.get(), 2);
+        assertEquals(cache.toString(), "1 hits / 2 misses");
+    }
+
+    @Test
+    public void dropsElementsAfterNavigation() {
+        WebElement before = cache.get(BUTTON, finder);
+
+        driver.navigate().to("https://www.saucedemo.com/cart.html");
+        WebElement after = cache.get(BUTTON, finder);
+
+        assertNotSame(after, before);
+        assertEquals(lookups.get(), 2);
+    }
+
+    @Test
+    public void dropsElementsAfterSwitchingFrame() {
+        cache.get(BUTTON, finder);
+
+        driver.switchTo().defaultContent();
+        cache.get(BUTTON, finder);
+
+        assertEquals(lookups.get(), 2);
+    }
+
+    @Test
+    public void reResolvesEvictedElements() {
+        WebElement stale = cache.get(BUTTON, finder);
+
+        cache.evict(BUTTON);
+        WebElement fresh = cache.get(BUTTON, finder);
+
+        assertNotSame(fresh, stale);
+        assertSame(cache.get(BUTTON, finder), fresh);
+        assertEquals(lookups.get(), 2);
+    }
+
+    @Test
+    public void putReplacesEntryWithWaitResult() {
+        cache.get(BUTTON, finder);
+        WebElement waited = stub(WebElement.class);
+
+        cache.put(BUTTON, waited);
+
+        assertSame(cache.get(BUTTON, finder), waited);
+        assertEquals(lookups.get(), 1);
+    }
+
+    // =========================
+    // Helpers
+    // =========================
+
+    /**
+     * Returns a stub whose methods do nothing; navigate() and switchTo()
+     * return stubs as well, so their calls reach the driver listeners.
+     */
+    private static <T> T stub(Class<T> type) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Class<?> returnType = method.getReturnType();
+            if (method.getName().equals("equals")) {
+                return proxy == args[0];
+            }
+            if (method.getName().equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+            if (method.getName().equals("toString")) {
+                return type.getSimpleName() + " stub";
+            }
+            if (returnType == boolean.class) {
+                return false;
+            }
+            return returnType.isInterface() ? stub(returnType) : null;
+        }));
+    }
+}
@@ -0,0 +1,171 @@
+package com.swaglabs.tests;
+
+import com.swaglabs.drivers.CommandCounter;
+import com.swaglabs.drivers.FakeDriver;
+import com.swaglabs.drivers.FakeSwagLabs;
+import com.swaglabs.drivers.GUIDriver;
+import com.swaglabs.pages.AppState;
+import com.swaglabs.pages.HomePage;
+import com.swaglabs.pages.InformationPage;
+import com.swaglabs.pages.InventoryIndex;
+import com.swaglabs.pages.LoginPage;
+import org.openqa.selenium.By;
+import org.openqa.selenium.InvalidSelectorException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static com.swaglabs.utils.PropertiesUtils.getPropertyValue;
+import static org.testng.Assert.*;
+
+/**
+ * Tests for the in-memory fake browser (FakeDriver serving FakeSwagLabs)
+ *
+ * Page objects run against it through GUIDriver like against a real
+ * browser, so these tests also cover the command counts of page object steps.
+ */
+public class FakeDriverTest {
+
+    // =========================
+    // Test Variables
+    // =========================
+
+    private static final String USERNAME = "standard_user";
+    private static final String PASSWORD = "secret_sauce";
+    private static final String PRODUCT = "Sauce Labs Backpack";
+
+    private GUIDriver driver;
+
+    // =========================
+    // Test Cases
+    // =========================
+
+    @Test
+    public void checkoutFlowRunsWithoutBrowser() {
+        driver = new GUIDriver("fake");
+        LoginPage loginPage = new LoginPage(driver);
+        loginPage.navigateToLoginPage();
+
+        loginPage.loginAs(USERNAME, PASSWORD)
+                .addSpecificProductToCart(PRODUCT)
+                .assertProductAddedToCart(PRODUCT)
+                .clickCartIcon()
+                .assertProductDetails(PRODUCT, "$29.99")
+                .clickCheckoutButton()
+                .fillInformationForm("John", "Doe", "12345")
+                .assertInformationPage("John", "Doe", "12345")
+                .clickContinueButton()
+                .clickFinishButton()
+                .assertConfirmationMessage("Thank you for your order!");
+    }
+
+    @Test
+    public void countsCommandsOfPageObjectStep() {
+        driver = new GUIDriver("fake");
+        new LoginPage(driver).navigateToLoginPage();
+        InformationPage informationPage = new AppState(driver)
+                .loggedInAs(USERNAME, PASSWORD)
+                .withProductsInCart(PRODUCT)
+                .openCheckoutStepOne();
+        FakeDriver fake = (FakeDriver) ((WrapsDriver) driver.get()).getWrappedDriver();
+
+        fake.resetCommands();
+        long counted = CommandCounter.count();
+        informationPage.fillInformationForm("John", "Doe", "12345");
+
+        assertEquals(fake.commandCount(), CommandCounter.count() - counted);
+        assertEquals(fake.commands().get("sendKeys"), Long.valueOf(3));
+        assertEquals(fake.document().first(element -> "postal-code".equals(element.attribute("id"))).value(), "12345");
+    }
+
+    @Test
+    public void appliesLatencyToEveryCommand() {
+        FakeDriver fake = FakeSwagLabs.install(new FakeDriver(Duration.ofMillis(20)));
+        fake.get(getPropertyValue("baseURL"));
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            fake.getTitle();
+        }
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() >= 100);
+        assertEquals(fake.commands(), Map.of("get", 1L, "getTitle", 5L));
+        fake.quit();
+    }
+
+    @Test
+    public void elementsGoStaleAfterNavigation() {
+        FakeDriver fake = FakeSwagLabs.install(new FakeDriver(Duration.ZERO));
+        fake.get(getPropertyValue("baseURL"));
+        WebElement username = fake.findElement(By.id("user-name"));
+
+        fake.navigate().refresh();
+
+        assertThrows(StaleElementReferenceException.class, username::getText);
+        fake.quit();
+    }
+
+    @Test
+    public void redirectsToLoginWhenNotLoggedIn() {
+        FakeDriver fake = FakeSwagLabs.install(new FakeDriver(Duration.ZERO));
+
+        fake.get(getPropertyValue("homeURL"));
+
+        assertEquals(fake.getCurrentUrl(), getPropertyValue("baseURL"));
+        assertEquals(fake.findElement(By.cssSelector("[data-test='error']")).getText(),
+                "Epic sadface: You can only access '/inventory.html' when you are logged in.");
+        fake.quit();
+    }
+
+    @Test
+    public void resolvesCssSelectors() {
+        FakeDriver fake = FakeSwagLabs.install(new FakeDriver(Duration.ZERO));
+        fake.get(getPropertyValue("baseURL"));
+        fake.findElement(By.id("user-name")).sendKeys(USERNAME);
+        fake.findElement(By.id("password")).sendKeys(PASSWORD);
+        fake.findElement(By.id("login-button")).click();
+
+        assertEquals(fake.findElements(By.cssSelector(".inventory_list > .inventory_item .inventory_item_price")).size(), 6);
+        assertEquals(fake.findElement(By.cssSelector("button[data-test^='add-to-cart-sauce-labs-b']")).getText(), "Add to cart");
+        assertEquals(fake.findElements(By.cssSelector("#root > .inventory_item")).size(), 0);
+        assertThrows(InvalidSelectorException.class, () -> fake.findElement(By.xpath("//button")));
+        fake.quit();
+    }
+
+    @Test
+    public void removesOnlyProductsInCart() {
+        driver = new GUIDriver("fake");
+        new LoginPage(driver).navigateToLoginPage();
+        HomePage homePage = new AppState(driver).loggedInAs(USERNAME, PASSWORD).openHome();
+        FakeDriver fake = (FakeDriver) ((WrapsDriver) driver.get()).getWrappedDriver();
+
+        assertEquals(fake.findElements(InventoryIndex.removeButton(PRODUCT)).size(), 0);
+        assertEquals(fake.findElements(InventoryIndex.addButton(PRODUCT)).size(), 1);
+
+        homePage.addSpecificProductToCart(PRODUCT)
+                .assertProductAddedToCart(PRODUCT);
+        assertEquals(fake.findElements(InventoryIndex.addButton(PRODUCT)).size(), 0);
+        assertEquals(fake.findElement(InventoryIndex.removeButton(PRODUCT)).getText(), "Remove");
+
+        homePage.removeSpecificProductFromCart(PRODUCT)
+                .assertProductRemovedFromCart(PRODUCT);
+        assertEquals(fake.findElements(InventoryIndex.removeButton(PRODUCT)).size(), 0);
+    }
+
+    // =========================
+    // Configuration
+    // =========================
+
+    @AfterMethod
+    public void tearDown() {
+        if (driver != null) {
+            driver.browser().closeBrowser();
+            driver = null;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.swaglabs.tests;
+
+import com.swaglabs.utils.JsonDataStream;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests for JsonDataStream
+ *
+ * Verifies both supported file layouts, row selection,
+ * and that rows are read on demand instead of up front.
+ */
+public class JsonDataStreamTest {
+
+    // =========================
+    // Test Variables
+    // =========================
+
+    private static final List<String> ROWS = List.of(
+            "{\"username\": \"standard_user\", \"product\": {\"name\": \"Backpack\"}, \"quantity\": 1}",
+            "{\"username\": \"visual_user\", \"product\": {\"name\": \"Bike Light\"}, \"quantity\": 2}",
+            "{\"username\": \"standard_user\", \"product\": {\"name\": \"Onesie\"}, \"quantity\": 3}",
+            "{\"username\": \"error_user\", \"product\": {\"name\": \"Backpack\"}, \"quantity\": 4}"
+    );
+
+    private Path directory;
+    private Path ndjson;
+    private Path jsonArray;
+
+    // =========================
+    // Test Cases
+    // =========================
+
+    @Test
+    public void readsNdjsonAndJsonArraysAlike() {
+        List<Object[]> fromLines = readAll(JsonDataStream.open(ndjson).columns("username", "product.name"));
+        List<Object[]> fromArray = readAll(JsonDataStream.open(jsonArray).columns("username", "product.name"));
+
+        assertEquals(fromLines.size(), ROWS.size());
+        assertEquals(fromLines.get(1), new Object[]{"visual_user", "Bike Light"});
+        for (int i = 0; i < ROWS.size(); i++) {
+            assertEquals(fromArray.get(i), fromLines.get(i));
+        }
+    }
+
+    @Test
+    public void passesWholeRowWithoutColumns() {
+        Object[] first = JsonDataStream.open(ndjson).next();
+
+        assertEquals(first.length, 1);
+        assertEquals(((Map<?, ?>) first[0]).get("username"), "standard_user");
+    }
+
+    @Test
+    public void filtersRows() {
+        List<Object[]> rows = readAll(JsonDataStream.open(jsonArray)
+                .columns("quantity")
+                .filter("username=standard_user && product.name!=Onesie"));
+
+        assertEquals(rows.size(), 1);
+        assertEquals(((Number) rows.get(0)[0]).intValue(), 1);
+    }
+
+    @Test
+    public void shardsSplitRowsWithoutOverlap() {
+        List<Object[]> first = readAll(JsonDataStream.open(ndjson).columns("quantity").shard("1/2"));
+        List<Object[]> second = readAll(JsonDataStream.open(ndjson).columns("quantity").shard("2/2"));
+
+        assertEquals(quantities(first), List.of(1, 3));
+        assertEquals(quantities(second), List.of(2, 4));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void rejectsInvalidShard() {
+        JsonDataStream.open(ndjson).shard("3/2");
+    }
+
+    /**
+     * A broken row at the end of the file is only reached when that row is
+     * requested, which shows rows are parsed one at a time.
+     */
+    @Test
+    public void readsRowsOnDemand() throws IOException {
+        Path broken = directory.resolve("broken.ndjson");
+        Files.write(broken, List.of(ROWS.get(0), ROWS.get(1), "{\"username\": "));
+
+        JsonDataStream stream = JsonDataStream.open(broken).columns("username");
+
+        assertEquals(stream.next(), new Object[]{"standard_user"});
+        assertEquals(stream.next(), new Object[]{"visual_user"});
+        assertThrows(IllegalStateException.class, stream::hasNext);
+    }
+
+    // =========================
+    // Configuration
+    // =========================
+
+    @BeforeClass
+    public void createDataFiles() throws IOException {
+        directory = Files.createTempDirectory("json-data-stream");
+        ndjson = Files.write(directory.resolve("rows.ndjson"), ROWS);
+        jsonArray = Files.writeString(directory.resolve("rows.json"), "[\n" + String.join(",\n", ROWS) + "\n]");
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void deleteDataFiles() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    // =========================
+    // Helpers
+    // =========================
+
+    private static List<Object[]> readAll(JsonDataStream stream) {
+        List<Object[]> rows = new ArrayList<>();
+        stream.forEachRemaining(rows::add);
+        return rows;
+    }
+
+    private static List<Integer> quantities(List<Object[]> rows) {
+        return rows.stream().map(row -> ((Number) row[0]).intValue()).toList();
+    }
+}
@@ -0,0 +1,106 @@
+package com.swaglabs.tests;
+
+import com.swaglabs.drivers.GUIDriver;
+import com.swaglabs.pages.*;
+import com.swaglabs.utils.FrameworkConfig;
+import com.swaglabs.utils.JsonUtils;
+import com.swaglabs.utils.LocatorProfiler;
+import com.swaglabs.utils.PropertiesUtils;
+import com.swaglabs.utils.StandInServer;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Locator Cost Profile
+ *
+ * Walks through every page of the checkout flow and profiles the
+ * locators of its page object on it (see {@link LocatorProfiler}).
+ * Not part of the regular test run; start it explicitly:
+ *
+ * <pre>
+ * mvn test -Dtest=LocatorCostProfile -DprofileIterations=20
+ * </pre>
+ *
+ * The ranking is written to test-outputs/metrics/locator-costs.csv and
+ * attached to the Allure report.
+ */
+public class LocatorCostProfile {
+
+    // =========================
+    // Test Variables
+    // =========================
+
+    GUIDriver driver;
+
+    JsonUtils testData;
+
+    // =========================
+    // Test Cases
+    // =========================
+
+    @Test
+    public void profileCheckoutFlowLocators() {
+        int iterations = Integer.parseInt(setting("profileIterations", "20"));
+        String productName = testData.getJsonData("product-names.item1.name");
+
+        LoginPage loginPage = new LoginPage(driver);
+        loginPage.navigateToLoginPage();
+        LocatorProfiler.profile(driver.get(), loginPage, iterations);
+
+        HomePage homePage = loginPage.loginAs(
+                testData.getJsonData("login-credentials.username"),
+                testData.getJsonData("login-credentials.password"));
+        LocatorProfiler.profile(driver.get(), homePage, iterations);
+
+        CartPage cartPage = homePage
+                .addSpecificProductToCart(productName)
+                .clickCartIcon();
+        LocatorProfiler.profile(driver.get(), cartPage, iterations);
+
+        InformationPage informationPage = cartPage.clickCheckoutButton();
+        LocatorProfiler.profile(driver.get(), informationPage, iterations);
+
+        OverviewPage overviewPage = informationPage
+                .fillInformationForm(
+                        testData.getJsonData("information-form.firstName"),
+                        testData.getJsonData("information-form.lastName"),
+                        testData.getJsonData("information-form.postalCode"))
+                .clickContinueButton();
+        LocatorProfiler.profile(driver.get(), overviewPage, iterations);
+
+        ConfirmationPage confirmationPage = overviewPage.clickFinishButton();
+        LocatorProfiler.profile(driver.get(), confirmationPage, iterations);
+    }
+
+    // =========================
+    // Configuration
+    // =========================
+
+    @BeforeClass
+    public void setup() {
+        if (FrameworkConfig.get().applicationTarget() == FrameworkConfig.ApplicationTarget.STAND_IN) {
+            StandInServer.start(FrameworkConfig.get().standInPort());
+        }
+        testData = new JsonUtils("test-data");
+        driver = new GUIDriver(PropertiesUtils.getPropertyValue("browserType"));
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void tearDown() {
+        LocatorProfiler.export();
+        if (driver != null) {
+            driver.browser().closeBrowser();
+        }
+        StandInServer.stop();
+    }
+
+    // =========================
+    // Helpers
+    // =========================
+
+    private static String setting(String key, String fallback) {
+        String value = FrameworkConfig.get().getString(key);
+        return value == null || value.isBlank() ? fallback : value;
+    }
+}
@@ -0,0 +1,175 @@
+package com.swaglabs.tests;
+
+import com.swaglabs.utils.LocatorProfiler;
+import com.swaglabs.utils.LocatorProfiler.LocatorCost;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.locators.RelativeLocator;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests for LocatorProfiler
+ *
+ * Profiles a sample page object against a stub driver that answers
+ * findElements from a fixed table. No browser is started.
+ */
+public class LocatorProfilerTest {
+
+    // =========================
+    // Test Variables
+    // =========================
+
+    private static final WebElement TITLE = element();
+    private static final WebElement BUTTON = element();
+    private static final List<WebElement> ITEMS = List.of(element(), element());
+
+    private static final By TITLE_BY_TEXT = By.xpath("//div[.='Products']");
+    private static final By BUTTON_BELOW_TITLE = RelativeLocator.with(By.tagName("button")).below(By.id("title"));
+
+    // =========================
+    // Test Cases
+    // =========================
+
+    @Test
+    public void classifiesLocators() {
+        assertEquals(LocatorProfiler.kindOf(By.id("checkout")), "id");
+        assertEquals(LocatorProfiler.kindOf(By.cssSelector(".title")), "css");
+        assertEquals(LocatorProfiler.kindOf(By.className("title")), "classname");
+        assertEquals(LocatorProfiler.kindOf(By.xpath("//div[@id='title']")), "xpath");
+        assertEquals(LocatorProfiler.kindOf(By.xpath("//div[.='Products']")), "xpath-text");
+        assertEquals(LocatorProfiler.kindOf(By.xpath("//span[text()='Products']")), "xpath-text");
+        assertEquals(LocatorProfiler.kindOf(By.xpath("//div[contains(., 'Back')]")), "xpath-text");
+        assertEquals(LocatorProfiler.kindOf(By.xpath("//div[normalize-space(.)='Products']")), "xpath-text");
+        assertEquals(LocatorProfiler.kindOf(BUTTON_BELOW_TITLE), "relative");
+    }
+
+    @Test
+    public void profilesPrivateFinalFieldsOnly() {
+        Map<String, LocatorCost> costs = byField(LocatorProfiler.profile(stubDriver(Map.of()), new SamplePage(), 3));
+
+        assertEquals(costs.keySet(), Set.of("title", "titleByText", "buttonBelowTitle", "items"));
+        assertEquals(costs.get("title").kind(), "id");
+        assertEquals(costs.get("title").matches(), 1);
+        assertEquals(costs.get("items").matches(), 2);
+        assertFalse(costs.get("title").isFlagged());
+        assertFalse(costs.get("items").isFlagged());
+    }
+
+    @Test
+    public void flagsTextXPathAndRelativeLocatorsWithCheaperEquivalent() {
+        Map<String, Object> equivalents = Map.of(
+                "title", Map.of("using", "id", "value", "title"),
+                "button", Map.of("using", "css", "value", "[data-test=\"add-to-cart\"]"));
+
+        Map<String, LocatorCost> costs = byField(LocatorProfiler.profile(stubDriver(equivalents), new SamplePage(), 3));
+
+        assertTrue(costs.get("titleByText").isFlagged());
+        assertEquals(costs.get("titleByText").equivalent(), By.id("title").toString());
+        assertTrue(costs.get("buttonBelowTitle").isFlagged());
+        assertEquals(costs.get("buttonBelowTitle").equivalent(), By.cssSelector("[data-test=\"add-to-cart\"]").toString());
+    }
+
+    @Test
+    public void doesNotFlagEquivalentMatchingOtherElements() {
+        // The suggested selector matches the list items, not the title
+        Map<String, Object> equivalents = Map.of("title", Map.of("using", "css", "value", ".inventory_item"));
+
+        Map<String, LocatorCost> costs = byField(LocatorProfiler.profile(stubDriver(equivalents), new SamplePage(), 3));
+
+        assertFalse(costs.get("titleByText").isFlagged());
+    }
+
+    @Test(dependsOnMethods = "flagsTextXPathAndRelativeLocatorsWithCheaperEquivalent")
+    public void exportsRankingMostExpensiveFirst() throws IOException {
+        LocatorProfiler.export();
+
+        List<String> rows = Files.readAllLines(Path.of(LocatorProfiler.METRICS_PATH, "locator-costs.csv"));
+        assertTrue(rows.get(0).startsWith("page,field,kind,locator,matches,medianMs"));
+        // The text XPath is the only locator the stub resolves slowly
+        assertTrue(rows.get(1).startsWith("\"SamplePage\",\"titleByText\",xpath-text,"), rows.get(1));
+        assertTrue(rows.stream().anyMatch(row -> row.contains(",true,\"By.id: title\",")), rows.toString());
+    }
+
+    // =========================
+    // Helpers
+    // =========================
+
+    private static Map<String, LocatorCost> byField(List<LocatorCost> costs) {
+        return costs.stream().collect(Collectors.toMap(LocatorCost::field, Function.identity()));
+    }
+
+    /**
+     * Driver answering findElements for the locators of SamplePage and their
+     * equivalents. The equivalent lookup script returns the entry of
+     * {@code equivalents} named after the element it receives.
+     */
+    private static WebDriver stubDriver(Map<String, Object> equivalents) {
+        Map<String, List<WebElement>> elements = new HashMap<>();
+        elements.put(By.id("title").toString(), List.of(TITLE));
+        elements.put(TITLE_BY_TEXT.toString(), List.of(TITLE));
+        elements.put(BUTTON_BELOW_TITLE.toString(), List.of(BUTTON));
+        elements.put(By.cssSelector("[data-test=\"add-to-cart\"]").toString(), List.of(BUTTON));
+        elements.put(By.cssSelector(".inventory_item").toString(), ITEMS);
+
+        return (WebDriver) Proxy.newProxyInstance(LocatorProfilerTest.class.getClassLoader(),
+                new Class<?>[]{WebDriver.class, JavascriptExecutor.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "findElements" -> {
+                            String locator = args[0].toString();
+                            if (locator.equals(TITLE_BY_TEXT.toString())) {
+                                Thread.sleep(2);
+                            }
+                            return elements.getOrDefault(locator, List.of());
+                        }
+                        case "executeScript" -> {
+                            List<?> matched = (List<?>) ((Object[]) args[1])[0];
+                            return equivalents.get(matched.get(0) == TITLE ? "title" : "button");
+                        }
+                        default -> {
+                            return null;
+                        }
+                    }
+                });
+    }
+
+    private static WebElement element() {
+        return (WebElement) Proxy.newProxyInstance(LocatorProfilerTest.class.getClassLoader(),
+                new Class<?>[]{WebElement.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> null;
+                });
+    }
+
+    /**
+     * Page object with locators of every kind, plus fields the profiler must skip.
+     */
+    @SuppressWarnings("unused")
+    private static class SamplePage {
+        private static final By SHARED = By.id("shared");
+
+        private final By title = By.id("title");
+        private final By titleByText = TITLE_BY_TEXT;
+        private final By buttonBelowTitle = BUTTON_BELOW_TITLE;
+        private final By items = By.cssSelector(".inventory_item");
+
+        private By notFinal = By.id("not-final");
+        final By notPrivate = By.id("not-private");
+        private final String notLocator = "title";
+    }
+}
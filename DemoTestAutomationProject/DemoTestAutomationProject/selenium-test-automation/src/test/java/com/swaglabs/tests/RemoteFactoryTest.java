@@ -0,0 +1,201 @@
+package com.swaglabs.tests;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.swaglabs.drivers.RemoteFactory;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.WebDriver;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests for RemoteFactory
+ *
+ * Runs against minimal fake grid endpoints that answer /status and
+ * create or delete sessions, and verifies where sessions are placed.
+ */
+public class RemoteFactoryTest {
+
+    // =========================
+    // Test Variables
+    // =========================
+
+    private final List<FakeGrid> grids = new ArrayList<>();
+
+    // =========================
+    // Test Cases
+    // =========================
+
+    @Test
+    public void createsSessionOnLeastLoadedEndpoint() throws IOException {
+        FakeGrid busy = startGrid(4, 3, true);
+        FakeGrid idle = startGrid(4, 1, true);
+
+        WebDriver driver = new RemoteFactory("chrome", List.of(busy.uri, idle.uri)).startDriver();
+
+        assertEquals(idle.created.get(), 1);
+        assertEquals(busy.created.get(), 0);
+        driver.quit();
+    }
+
+    @Test
+    public void triesNotReadyEndpointsLast() throws IOException {
+        FakeGrid down = startGrid(4, 0, false);
+        FakeGrid full = startGrid(2, 2, true);
+
+        WebDriver driver = new RemoteFactory("chrome", List.of(down.uri, full.uri)).startDriver();
+
+        assertEquals(full.created.get(), 1);
+        assertEquals(down.created.get(), 0);
+        driver.quit();
+    }
+
+    @Test
+    public void retriesOnNextEndpointWhenCreationFails() throws IOException {
+        FakeGrid failing = startGrid(4, 0, true);
+        failing.rejectSessions = true;
+        FakeGrid working = startGrid(4, 2, true);
+
+        WebDriver driver = new RemoteFactory("chrome", List.of(failing.uri, working.uri)).startDriver();
+
+        assertEquals(failing.created.get(), 0);
+        assertEquals(working.created.get(), 1);
+        assertEquals(RemoteFactory.openSessions(failing.uri), 0);
+        driver.quit();
+    }
+
+    @Test
+    public void failsWhenNoEndpointCreatesSession() throws IOException {
+        FakeGrid first = startGrid(1, 0, true);
+        FakeGrid second = startGrid(1, 0, true);
+        first.rejectSessions = true;
+        second.rejectSessions = true;
+
+        SessionNotCreatedException failure = expectThrows(SessionNotCreatedException.class,
+                () -> new RemoteFactory("chrome", List.of(first.uri, second.uri)).startDriver());
+
+        assertEquals(failure.getSuppressed().length, 2);
+    }
+
+    @Test
+    public void countsOpenSessionsUntilQuit() throws IOException {
+        FakeGrid grid = startGrid(4, 0, true);
+        RemoteFactory factory = new RemoteFactory("chrome", List.of(grid.uri));
+
+        WebDriver first = factory.startDriver();
+        WebDriver second = factory.startDriver();
+        assertEquals(RemoteFactory.openSessions(grid.uri), 2);
+
+        first.quit();
+        first.quit();
+        assertEquals(RemoteFactory.openSessions(grid.uri), 1);
+        assertEquals(grid.deleted.get(), 1);
+
+        second.quit();
+        assertEquals(RemoteFactory.openSessions(grid.uri), 0);
+    }
+
+    @Test
+    public void countsOwnSessionsWhenEndpointReportsNone() throws IOException {
+        FakeGrid first = startGrid(2, 0, true);
+        FakeGrid second = startGrid(2, 0, true);
+        RemoteFactory factory = new RemoteFactory("chrome", List.of(first.uri, second.uri));
+
+        WebDriver one = factory.startDriver();
+        WebDriver two = factory.startDriver();
+
+        assertEquals(first.created.get(), 1);
+        assertEquals(second.created.get(), 1);
+        one.quit();
+        two.quit();
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void rejectsEmptyEndpointList() {
+        new RemoteFactory("chrome", List.of());
+    }
+
+    // =========================
+    // Configuration
+    // =========================
+
+    @AfterMethod(alwaysRun = true)
+    public void stopGrids() {
+        grids.forEach(grid -> grid.server.stop(0));
+        grids.clear();
+    }
+
+    // =========================
+    // Helpers
+    // =========================
+
+    private FakeGrid startGrid(int slots, int busySlots, boolean ready) throws IOException {
+        FakeGrid grid = new FakeGrid(slots, busySlots, ready);
+        grids.add(grid);
+        return grid;
+    }
+
+    /**
+     * Answers /status with one node and the given slots, and
+     * creates or deletes sessions without starting a browser.
+     * Busy slots reported by /status are fixed; sessions created
+     * here only show up in the factory's own count.
+     */
+    private static final class FakeGrid {
+        private final HttpServer server;
+        private final URI uri;
+        private final AtomicInteger created = new AtomicInteger();
+        private final AtomicInteger deleted = new AtomicInteger();
+        private volatile boolean rejectSessions;
+
+        private FakeGrid(int slots, int busySlots, boolean ready) throws IOException {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.createContext("/status", exchange -> respond(exchange, 200, status(slots, busySlots, ready)));
+            server.createContext("/session", this::handleSession);
+            server.start();
+            uri = URI.create("http://127.0.0.1:" + server.getAddress().getPort());
+        }
+
+        private void handleSession(HttpExchange exchange) throws IOException {
+            if ("DELETE".equals(exchange.getRequestMethod())) {
+                deleted.incrementAndGet();
+                respond(exchange, 200, "{\"value\": null}");
+            } else if (rejectSessions) {
+                respond(exchange, 500, "{\"value\": {\"error\": \"session not created\","
+                        + " \"message\": \"No free slot\", \"stacktrace\": \"\"}}");
+            } else {
+                String id = "session-" + created.incrementAndGet();
+                respond(exchange, 200, "{\"value\": {\"sessionId\": \"" + id + "\","
+                        + " \"capabilities\": {\"browserName\": \"chrome\"}}}");
+            }
+        }
+
+        private static String status(int slots, int busySlots, boolean ready) {
+            List<String> slotList = new ArrayList<>();
+            for (int i = 0; i < slots; i++) {
+                slotList.add(i < busySlots ? "{\"session\": {\"sessionId\": \"s" + i + "\"}}" : "{\"session\": null}");
+            }
+            return "{\"value\": {\"ready\": " + ready + ", \"nodes\": [{\"availability\": \"UP\","
+                    + " \"slots\": [" + String.join(", ", slotList) + "]}]}}";
+        }
+
+        private static void respond(HttpExchange exchange, int code, String body) throws IOException {
+            exchange.getRequestBody().readAllBytes();
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(code, bytes.length);
+            exchange.getResponseBody().write(bytes);
+            exchange.close();
+        }
+    }
+}
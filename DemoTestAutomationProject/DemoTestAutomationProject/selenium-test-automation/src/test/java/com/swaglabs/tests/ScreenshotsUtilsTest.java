@@ -0,0 +1,57 @@
+package com.swaglabs.tests;
+
+import com.swaglabs.drivers.FakeDriver;
+import com.swaglabs.drivers.FakeSwagLabs;
+import com.swaglabs.utils.ScreenshotsUtils;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests for the background screenshot writer
+ */
+public class ScreenshotsUtilsTest {
+
+    // =========================
+    // Test Cases
+    // =========================
+
+    @Test
+    public void writesScreenshotsTakenAfterFlush() throws IOException {
+        FakeDriver fake = FakeSwagLabs.install(new FakeDriver(Duration.ZERO));
+        String name = "flush-" + UUID.randomUUID();
+        try {
+            // An earlier execution in the same JVM has already flushed the writer
+            ScreenshotsUtils.flush();
+
+            ScreenshotsUtils.takeScreenshot(fake, name);
+            ScreenshotsUtils.flush();
+
+            List<Path> written = screenshots(name);
+            assertEquals(written.size(), 1);
+            for (Path screenshot : written) {
+                Files.delete(screenshot);
+            }
+        } finally {
+            fake.quit();
+        }
+    }
+
+    // =========================
+    // Helpers
+    // =========================
+
+    private List<Path> screenshots(String name) throws IOException {
+        try (Stream<Path> files = Files.list(Path.of(ScreenshotsUtils.SCREENSHOTS_PATH))) {
+            return files.filter(file -> file.getFileName().toString().startsWith(name)).toList();
+        }
+    }
+}
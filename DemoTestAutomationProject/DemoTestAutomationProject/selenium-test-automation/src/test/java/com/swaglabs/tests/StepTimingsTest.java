@@ -0,0 +1,83 @@
+package com.swaglabs.tests;
+
+import com.swaglabs.utils.StepTimings;
+import io.qameta.allure.Step;
+import org.testng.annotations.Test;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests for StepTimings and StepTimingAspect
+ *
+ * Relies on the AspectJ agent configured for surefire, which weaves
+ * the timing aspect into the @Step methods below.
+ */
+public class StepTimingsTest {
+
+    // =========================
+    // Test Variables
+    // =========================
+
+    private static final long STEP_MILLIS = 20;
+
+    // =========================
+    // Test Cases
+    // =========================
+
+    @Test
+    public void nestsStepsUnderTheRunningTest() {
+        String test = "StepTimingsTest-" + UUID.randomUUID();
+
+        StepTimings.startTest(test);
+        outerStep();
+        StepTimings.finishTest();
+
+        Map<String, Long> stacks = StepTimings.collapsedStacks();
+        String outer = test + ";StepTimingsTest.outerStep";
+        String inner = outer + ";StepTimingsTest.innerStep";
+
+        assertTrue(stacks.containsKey(test), "Missing test frame: " + stacks.keySet());
+        assertTrue(stacks.containsKey(outer), "Missing outer step: " + stacks.keySet());
+        assertTrue(stacks.get(inner) >= 2 * STEP_MILLIS * 1_000,
+                "Inner step self time too small: " + stacks.get(inner));
+        assertTrue(stacks.get(outer) < STEP_MILLIS * 1_000,
+                "Inner step time counted as outer self time: " + stacks.get(outer));
+    }
+
+    @Test(invocationCount = 16, threadPoolSize = 8)
+    public void keepsThreadsApart() {
+        String test = "StepTimingsTest-" + UUID.randomUUID();
+
+        StepTimings.startTest(test);
+        innerStep();
+        StepTimings.finishTest();
+
+        long stacksOfThisTest = StepTimings.collapsedStacks().keySet().stream()
+                .filter(stack -> stack.startsWith(test))
+                .count();
+        assertEquals(stacksOfThisTest, 2);
+        assertTrue(StepTimings.collapsedStacks().containsKey(test + ";StepTimingsTest.innerStep"));
+    }
+
+    // =========================
+    // Steps
+    // =========================
+
+    @Step("Outer step")
+    public void outerStep() {
+        innerStep();
+        innerStep();
+    }
+
+    @Step("Inner step")
+    public void innerStep() {
+        try {
+            Thread.sleep(STEP_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
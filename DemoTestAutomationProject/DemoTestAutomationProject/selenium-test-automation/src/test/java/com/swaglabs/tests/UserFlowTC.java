@@ -3,10 +3,14 @@ package com.swaglabs.tests;
 import com.swaglabs.drivers.GUIDriver;
 import com.swaglabs.listeners.TestNGListeners;
 import com.swaglabs.pages.*;
+import com.swaglabs.utils.JsonDataStream;
 import com.swaglabs.utils.JsonUtils;
 import com.swaglabs.utils.PropertiesUtils;
 import org.testng.annotations.*;
 
+import java.util.Iterator;
+import java.util.List;
+
 @Listeners(TestNGListeners.class)
 public class UserFlowTC {
 
@@ -35,12 +39,12 @@ public class UserFlowTC {
     @Test
     public void userFlow() {
 
-        // Login and navigate to Home page
+        // Login (cached session after the first test) and navigate to Home page
         HomePage homePage = new LoginPage(driver)
-                .enterUsername(testData.getJsonData("login-credentials.username"))
-                .enterPassword(testData.getJsonData("login-credentials.password"))
-                .clickLoginButton()
-                .assertSuccessfulLogin();
+                .loginAs(
+                        testData.getJsonData("login-credentials.username"),
+                        testData.getJsonData("login-credentials.password")
+                );
 
         // Add product and navigate to Cart page
         CartPage cartPage = homePage
@@ -75,6 +79,78 @@ public class UserFlowTC {
                 );
     }
 
+    /**
+     * Checkout flow repeated for every row of checkout-data.ndjson.
+     * Rows are streamed from the file and can be narrowed with
+     * the dataFilter / dataShard properties.
+     */
+    @Test(dataProvider = "checkoutCombinations")
+    public void checkoutFlow(String username, String password, String productName, String productPrice,
+                             String firstName, String lastName, String postalCode) {
+
+        new LoginPage(driver)
+                .loginAs(username, password)
+                .addSpecificProductToCart(productName)
+                .assertProductAddedToCart(productName)
+                .clickCartIcon()
+                .assertProductDetails(productName, productPrice)
+                .clickCheckoutButton()
+                .fillInformationForm(firstName, lastName, postalCode)
+                .assertInformationPage(firstName, lastName, postalCode)
+                .clickContinueButton()
+                .clickFinishButton()
+                .assertConfirmationMessage(testData.getJsonData("confirmation-message"));
+    }
+
+    /**
+     * Checkout started directly at step one, with the cart
+     * seeded instead of filled through the home page.
+     */
+    @Test
+    public void checkoutFromSeededCart() {
+        new AppState(driver)
+                .loggedInAs(
+                        testData.getJsonData("login-credentials.username"),
+                        testData.getJsonData("login-credentials.password")
+                )
+                .withProductsInCart(
+                        testData.getJsonData("product-names.item1.name"),
+                        testData.getJsonData("product-names.item2.name")
+                )
+                .openCheckoutStepOne()
+                .fillInformationForm(
+                        testData.getJsonData("information-form.firstName"),
+                        testData.getJsonData("information-form.lastName"),
+                        testData.getJsonData("information-form.postalCode")
+                )
+                .clickContinueButton()
+                .assertOrderProducts(
+                        List.of(
+                                testData.getJsonData("product-names.item1.name"),
+                                testData.getJsonData("product-names.item2.name")
+                        ),
+                        List.of(
+                                testData.getJsonData("product-names.item1.price"),
+                                testData.getJsonData("product-names.item2.price")
+                        )
+                )
+                .clickFinishButton()
+                .assertConfirmationMessage(testData.getJsonData("confirmation-message"));
+    }
+
+    // =========================
+    // Data Providers
+    // =========================
+
+    // Sequential, so rows are streamed one test at a time (see JsonDataStream)
+    @DataProvider(name = "checkoutCombinations")
+    public Iterator<Object[]> checkoutCombinations() {
+        return JsonDataStream.open("checkout-data.ndjson")
+                .columns("username", "password", "product.name", "product.price",
+                        "firstName", "lastName", "postalCode")
+                .applyConfiguredSelection();
+    }
+
     // =========================
     // Configuration
     // =========================
@@ -0,0 +1,132 @@
+package com.swaglabs.utils;
+
+import com.swaglabs.drivers.FakeDriver;
+import com.swaglabs.drivers.FakeSwagLabs;
+import org.openqa.selenium.By;
+import org.openqa.selenium.InvalidSelectorException;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.WebElement;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.swaglabs.utils.PropertiesUtils.getPropertyValue;
+import static org.testng.Assert.*;
+
+/**
+ * Tests for the in-browser event waits (waitStrategy=Event)
+ *
+ * The fake browser's wait script is replaced to throw the errors a real
+ * browser reports, so only navigation restarts the wait.
+ */
+public class WaitsTest {
+
+    // =========================
+    // Test Variables
+    // =========================
+
+    private static final String EVENT_WAIT = "condition = arguments[1], timeout = arguments[2]";
+    private static final String UNLOADED = "javascript error: document unloaded while waiting for result";
+
+    private FakeDriver fake;
+    private final AtomicInteger calls = new AtomicInteger();
+
+    // =========================
+    // Test Cases
+    // =========================
+
+    @Test
+    public void restartsAfterNavigation() {
+        fake.onScript(EVENT_WAIT, args -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new JavascriptException(UNLOADED);
+            }
+            return fake.findElement(By.id("user-name"));
+        });
+
+        WebElement element = eventWaits().waitForElementVisible(By.id("user-name"));
+
+        assertEquals(element.getAttribute("id"), "user-name");
+        assertEquals(calls.get(), 2);
+    }
+
+    @Test
+    public void reportsInvalidSelectorAtOnce() {
+        fake.onScript(EVENT_WAIT, args -> {
+            calls.incrementAndGet();
+            throw new JavascriptException("javascript error: SyntaxError: "
+                    + "Failed to execute 'querySelector' on 'Document': 'div[' is not a valid selector.");
+        });
+
+        long start = System.nanoTime();
+        assertThrows(InvalidSelectorException.class,
+                () -> eventWaits().waitForElementVisible(By.cssSelector("div[")));
+
+        assertEquals(calls.get(), 1);
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toSeconds() < 2);
+    }
+
+    @Test
+    public void rethrowsOtherScriptErrors() {
+        fake.onScript(EVENT_WAIT, args -> {
+            calls.incrementAndGet();
+            throw new JavascriptException("javascript error: Cannot read properties of null");
+        });
+
+        assertThrows(JavascriptException.class, () -> eventWaits().waitForElementPresent(By.id("user-name")));
+        assertEquals(calls.get(), 1);
+    }
+
+    @Test
+    public void capsNavigationRestarts() {
+        fake.onScript(EVENT_WAIT, args -> {
+            calls.incrementAndGet();
+            throw new JavascriptException(UNLOADED);
+        });
+
+        assertThrows(JavascriptException.class, () -> eventWaits().waitForElementPresent(By.id("user-name")));
+        assertEquals(calls.get(), 6);
+    }
+
+    @Test
+    public void pollsAfterScriptTimeout() {
+        fake.onScript(EVENT_WAIT, args -> {
+            calls.incrementAndGet();
+            throw new ScriptTimeoutException("script timeout");
+        });
+
+        WebElement element = eventWaits().waitForElementVisible(By.id("user-name"));
+
+        assertEquals(element.getAttribute("id"), "user-name");
+        assertEquals(calls.get(), 1);
+    }
+
+    // =========================
+    // Configuration
+    // =========================
+
+    @BeforeMethod
+    public void openLoginPage() {
+        calls.set(0);
+        fake = FakeSwagLabs.install(new FakeDriver(Duration.ZERO));
+        fake.get(getPropertyValue("baseURL"));
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        fake.quit();
+    }
+
+    // =========================
+    // Helpers
+    // =========================
+
+    // Event waits whatever waitStrategy is configured
+    private Waits eventWaits() {
+        return new Waits(fake, FrameworkConfig.WaitStrategy.EVENT);
+    }
+}